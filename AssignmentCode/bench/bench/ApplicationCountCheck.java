@@ -0,0 +1,152 @@
+package bench;
+
+import controller.CareerCenterController;
+import controller.CompanyRepController;
+import controller.InternshipController;
+import controller.StudentController;
+import entity.domain.InternshipApplication;
+import entity.domain.InternshipOpportunity;
+import entity.domain.WithdrawalRequest;
+import entity.user.CompanyRepresentative;
+import entity.user.Student;
+import enums.InternshipLevel;
+import enums.InternshipStatus;
+import enums.Major;
+import enums.RequestStatus;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Drives random apply, approve, reject, accept and withdrawal cycles through the controllers and
+ * checks after every step that each student's maintained active-application count and placement
+ * flag match a recount ({@link Student#verifyApplicationCounts()}), then again after reloading
+ * the applications from the logs into fresh students.
+ * <p>
+ * Usage: {@code java -cp <AssignmentCode>/bin bench.ApplicationCountCheck [steps] [seed]}
+ * (defaults: 20,000 steps, seed 1). The controllers read and write {@code assets/} in the
+ * working directory, so run it from an empty scratch directory.
+ */
+public class ApplicationCountCheck {
+
+    private static final int STUDENTS = 200;
+    private static final int POSTINGS = 50;
+
+    public static void main(String[] args) {
+        int steps = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        if (new File("assets").exists()) {
+            System.err.println("Run from an empty scratch directory: assets/ already exists here.");
+            System.exit(2);
+        }
+        new File("assets").mkdirs();
+
+        List<InternshipOpportunity> postings = new ArrayList<>();
+        Map<String, CompanyRepresentative> reps = new HashMap<>();
+        for (int i = 0; i < POSTINGS; i++) {
+            String repId = String.format("CR%04d", i % 10);
+            InternshipOpportunity posting = new InternshipOpportunity(String.format("INT%04d", i), "Title " + i,
+                "Description", InternshipLevel.BASIC, Major.CS, LocalDate.now().minusDays(30),
+                LocalDate.now().plusDays(30), "Company " + i % 10, repId, 1 + i % 4);
+            posting.setStatus(InternshipStatus.APPROVED);
+            posting.setVisible(true);
+            postings.add(posting);
+            reps.computeIfAbsent(repId, id -> new CompanyRepresentative(id, "Rep", "rep@company.com", "password",
+                posting.getCompanyName(), "HR", "Recruiter"));
+        }
+        List<Student> students = newStudents();
+
+        InternshipController internshipController = new InternshipController();
+        internshipController.loadInternshipsFromSnapshot(postings);
+        StudentController studentController = new StudentController(internshipController);
+        studentController.loadApplicationsFromFile(students);
+        CompanyRepController repController = new CompanyRepController(internshipController, studentController);
+        CareerCenterController careerCenterController =
+            new CareerCenterController(new ArrayList<>(reps.values()), internshipController, studentController);
+
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // Controllers report every step
+        Random random = new Random(seed);
+        int failures = 0;
+        for (int step = 0; step < steps; step++) {
+            Student student = students.get(random.nextInt(students.size()));
+            List<InternshipApplication> applications = student.getApplications();
+            int action = random.nextInt(10);
+            if (action < 4 || applications.isEmpty()) {
+                studentController.applyForInternship(student, postings.get(random.nextInt(postings.size())));
+            } else {
+                InternshipApplication application = applications.get(random.nextInt(applications.size()));
+                CompanyRepresentative rep = reps.get(
+                    internshipController.findInternshipById(application.getOpportunityId()).getAssignedRepresentativeId());
+                if (action < 6) {
+                    repController.approveApplication(rep, application);
+                } else if (action < 7) {
+                    repController.rejectApplication(rep, application);
+                } else if (action < 8) {
+                    studentController.acceptPlacement(student, application);
+                } else if (studentController.requestWithdrawal(student, application, "Changed plans")) {
+                    decideWithdrawals(careerCenterController, studentController.getStudentWithdrawalRequests(student),
+                        random);
+                }
+            }
+            if (!student.verifyApplicationCounts()) {
+                failures++;
+                out.println("Step " + step + ": counts of " + student.getUserId() + " do not match a recount");
+            }
+        }
+        studentController.shutdown();
+
+        // Reload the logs into fresh students, as on a restart
+        List<Student> reloaded = newStudents();
+        StudentController restarted = new StudentController(internshipController);
+        restarted.loadApplicationsFromFile(reloaded);
+        restarted.shutdown();
+        System.setOut(out);
+
+        int applications = 0;
+        for (int i = 0; i < students.size(); i++) {
+            Student before = students.get(i);
+            Student after = reloaded.get(i);
+            applications += before.getApplicationCount();
+            if (!before.verifyApplicationCounts() || !after.verifyApplicationCounts()
+                    || before.getActiveApplicationCount() != after.getActiveApplicationCount()
+                    || before.hasConfirmedPlacement() != after.hasConfirmedPlacement()) {
+                failures++;
+                System.out.println("Counts of " + before.getUserId() + " are wrong at the end or after reloading");
+            }
+        }
+        System.out.printf("%d steps, %d applications over %d students: %d count mismatches%n",
+            steps, applications, students.size(), failures);
+        internshipController.shutdown();
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static List<Student> newStudents() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Student(String.format("U%07dA", i), "Student " + i, "s" + i + "@e.ntu.edu.sg",
+                "password", 1 + i % 4, Major.CS));
+        }
+        return students;
+    }
+
+    private static void decideWithdrawals(CareerCenterController controller, List<WithdrawalRequest> requests,
+                                          Random random) {
+        for (WithdrawalRequest request : requests) {
+            if (request.getRequestStatus() == RequestStatus.PENDING) {
+                if (random.nextBoolean()) {
+                    controller.approveWithdrawal(request, "Approved");
+                } else {
+                    controller.rejectWithdrawal(request, "Rejected");
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
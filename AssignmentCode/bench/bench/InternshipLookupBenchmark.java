@@ -0,0 +1,83 @@
+package bench;
+
+import controller.InternshipController;
+import entity.domain.InternshipOpportunity;
+import enums.InternshipLevel;
+import enums.Major;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares finding an internship by opportunity ID with the former linear scan of the internship
+ * list against the ID index of {@link InternshipController#findInternshipById(String)}.
+ * <p>
+ * Usage: {@code java -cp bin bench.InternshipLookupBenchmark [postings] [rounds]}
+ * (defaults: 100,000 postings, 3 rounds). Postings are generated in memory; no file is written.
+ */
+public class InternshipLookupBenchmark {
+
+    private static final int LOOKUPS = 2000;
+    private static final int INDEX_REPEATS = 500; // Index lookups are too fast to time one pass
+
+    public static void main(String[] args) {
+        int postingCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        List<InternshipOpportunity> postings = new ArrayList<>(postingCount);
+        for (int i = 0; i < postingCount; i++) {
+            postings.add(new InternshipOpportunity(String.format("INT%06d", i), "Title " + i, "Description",
+                InternshipLevel.BASIC, Major.CS, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31),
+                "Company " + i % 500, String.format("CR%04d", i % 500), 3));
+        }
+        InternshipController controller = new InternshipController();
+        controller.loadInternshipsFromSnapshot(postings);
+        List<InternshipOpportunity> internships = controller.getAllInternships();
+
+        Random random = new Random(1);
+        String[] ids = new String[LOOKUPS];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = internships.get(random.nextInt(internships.size())).getOpportunityId();
+        }
+
+        for (int round = 1; round <= rounds; round++) {
+            int found = 0;
+            long start = System.nanoTime();
+            for (String id : ids) {
+                if (linearScan(internships, id) != null) {
+                    found++;
+                }
+            }
+            long scanNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int repeat = 0; repeat < INDEX_REPEATS; repeat++) {
+                for (String id : ids) {
+                    if (controller.findInternshipById(id) != null) {
+                        found++;
+                    }
+                }
+            }
+            long indexNanos = System.nanoTime() - start;
+
+            boolean allFound = found == LOOKUPS * (INDEX_REPEATS + 1);
+            System.out.printf("round %d, %d postings: linear scan %.1f us per lookup, index %.3f us per lookup "
+                    + "(all found: %b)%n",
+                round, internships.size(), scanNanos / 1e3 / LOOKUPS,
+                indexNanos / 1e3 / ((double) LOOKUPS * INDEX_REPEATS), allFound);
+        }
+        controller.shutdown();
+    }
+
+    /**
+     * The lookup as it was before the index: stream the whole list for the first matching ID
+     */
+    private static InternshipOpportunity linearScan(List<InternshipOpportunity> internships, String opportunityId) {
+        return internships.stream()
+            .filter(internship -> internship.getOpportunityId().equals(opportunityId))
+            .findFirst()
+            .orElse(null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package bench;
+
+import entity.domain.InternshipOpportunity;
+import enums.InternshipLevel;
+import enums.InternshipStatus;
+import enums.Major;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Races {@link InternshipOpportunity#reserveSlot()} and {@link InternshipOpportunity#releaseSlot()}
+ * from many threads on one hot posting and checks, after every round, that no more slots were
+ * filled than exist, that the filled slots equal the successful reservations minus releases, and
+ * that the status is FILLED exactly when every slot is filled. The change listener also checks that
+ * filled never exceeds total while the round is running.
+ * <p>
+ * Usage: {@code java -cp bin bench.SlotReservationStress [threads] [rounds] [attempts per thread]}
+ * (defaults: 64 threads, 2000 rounds, 50 attempts). Exits with status 1 if an invariant is violated.
+ */
+public class SlotReservationStress {
+
+    private static final int SLOTS = 10;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int attempts = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        AtomicLong overbookedObservations = new AtomicLong();
+        int violations = 0;
+        long start = System.nanoTime();
+        try {
+            for (int round = 1; round <= rounds; round++) {
+                InternshipOpportunity posting = new InternshipOpportunity("INT" + round, "Hot posting", "Description",
+                    InternshipLevel.BASIC, Major.CS, LocalDate.now(), LocalDate.now(), "Company", "CR0001", SLOTS);
+                posting.setStatus(InternshipStatus.APPROVED);
+                posting.setChangeListener(internship -> {
+                    if (internship.getFilledSlots() > internship.getTotalSlots()) {
+                        overbookedObservations.incrementAndGet();
+                    }
+                });
+
+                AtomicInteger held = new AtomicInteger(); // Successful reservations minus releases
+                CountDownLatch go = new CountDownLatch(1);
+                List<Future<?>> racers = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    racers.add(pool.submit(() -> {
+                        go.await();
+                        for (int k = 0; k < attempts; k++) {
+                            if (posting.reserveSlot()) {
+                                held.incrementAndGet();
+                                // Give back every fourth slot so reservations keep competing with releases
+                                if (k % 4 == 0 && posting.releaseSlot()) {
+                                    held.decrementAndGet();
+                                }
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                go.countDown();
+                for (Future<?> racer : racers) {
+                    racer.get();
+                }
+
+                int filled = posting.getFilledSlots();
+                int total = posting.getTotalSlots();
+                boolean statusFilled = posting.getStatus() == InternshipStatus.FILLED;
+                if (filled > total || held.get() != filled || statusFilled != (filled == total)) {
+                    violations++;
+                    System.out.printf("Round %d: filled %d of %d, %d held, status %s%n",
+                        round, filled, total, held.get(), posting.getStatus());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.printf("%d rounds of %d threads x %d attempts on a %d-slot posting in %d ms: "
+                + "%d violations, %d overbooked observations%n",
+            rounds, threads, attempts, SLOTS, (System.nanoTime() - start) / 1_000_000,
+            violations, overbookedObservations.get());
+        System.exit(violations == 0 && overbookedObservations.get() == 0 ? 0 : 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+package bench;
+
+import entity.domain.InternshipApplication;
+import entity.domain.InternshipOpportunity;
+import entity.domain.WithdrawalRequest;
+import entity.user.CareerCenterStaff;
+import entity.user.CompanyRepresentative;
+import entity.user.Student;
+import util.FileHandler;
+import util.Snapshot;
+import util.SnapshotCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Compares loading the application state from the binary snapshot with parsing the CSV files and
+ * with Java serialization of the same objects.
+ * <p>
+ * Usage: {@code java -cp bin bench.SnapshotBenchmark [students] [internships] [applications] [rounds]}
+ * (defaults: 1,000,000 students, 300,000 internships, 200,000 applications, 4 rounds). The data is
+ * generated in a temporary directory, which is deleted afterwards. The first round includes JIT
+ * warm-up.
+ */
+public class SnapshotBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int internshipCount = args.length > 1 ? Integer.parseInt(args[1]) : 300_000;
+        int applicationCount = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+
+        Path directory = Files.createTempDirectory("snapshot-bench");
+        try {
+            Path studentFile = directory.resolve("student_list.csv");
+            Path internshipFile = directory.resolve("internship_list.csv");
+            Path snapshotFile = directory.resolve("snapshot.bin");
+            Path serializedFile = directory.resolve("state.ser");
+            writeStudents(studentFile, studentCount);
+            writeInternships(internshipFile, internshipCount);
+
+            List<Student> students = FileHandler.loadStudents(studentFile.toString());
+            List<InternshipOpportunity> internships = FileHandler.loadInternships(internshipFile.toString());
+            Snapshot snapshot = new Snapshot(students, staff(), companyReps(internshipCount),
+                internships, new ArrayList<>(), new ArrayList<>());
+            addApplications(snapshot, applicationCount);
+
+            System.out.printf("%d students, %d internships, %d applications%n",
+                studentCount, internshipCount, applicationCount);
+            for (int round = 1; round <= rounds; round++) {
+                long start = System.nanoTime();
+                SnapshotCodec.write(snapshot, snapshotFile.toString(), studentFile.toString(), internshipFile.toString());
+                long snapshotWrite = elapsedMillis(start);
+
+                System.gc();
+                start = System.nanoTime();
+                Snapshot decoded = SnapshotCodec.readIfCurrent(snapshotFile.toString(),
+                    studentFile.toString(), internshipFile.toString());
+                long snapshotRead = elapsedMillis(start);
+
+                System.gc();
+                start = System.nanoTime();
+                FileHandler.loadStudents(studentFile.toString());
+                FileHandler.loadInternships(internshipFile.toString());
+                long csvRead = elapsedMillis(start);
+
+                start = System.nanoTime();
+                writeSerialized(snapshot, serializedFile);
+                long serializedWrite = elapsedMillis(start);
+
+                System.gc();
+                start = System.nanoTime();
+                List<?> deserialized = readSerialized(serializedFile);
+                long serializedRead = elapsedMillis(start);
+
+                System.out.printf("round %d: snapshot read %d ms / write %d ms (%d KB); "
+                        + "CSV read (students + internships) %d ms; "
+                        + "Java serialization read %d ms / write %d ms (%d KB); state matches: %b%n",
+                    round, snapshotRead, snapshotWrite, Files.size(snapshotFile) / 1024,
+                    csvRead, serializedRead, serializedWrite, Files.size(serializedFile) / 1024,
+                    matches(snapshot, decoded) && deserialized.size() == 6);
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void writeStudents(Path file, int count) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("StudentID,Name,Major,Year,Email\n");
+            for (int i = 0; i < count; i++) {
+                out.write(String.format("U%07dA,Student Name %d,Computer Science,%d,s%d@e.ntu.edu.sg%n",
+                    i, i, 1 + i % 4, i));
+            }
+        }
+    }
+
+    private static void writeInternships(Path file, int count) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("OpportunityID,Title,Description,Level,PreferredMajor,OpeningDate,ClosingDate,"
+                + "Status,CompanyName,AssignedRepresentativeId,TotalSlots,FilledSlots,IsVisible\n");
+            for (int i = 0; i < count; i++) {
+                out.write(String.format("INT%06d,\"Title %d, x\",Description of posting %d,%s,CS,"
+                        + "2026-01-01,2026-12-31,APPROVED,Company %d,CR%04d,%d,0,%b%n",
+                    i, i, i, i % 3 == 0 ? "ADVANCED" : "BASIC", i % 500, i % 500, 1 + i % 10, i % 7 != 0));
+            }
+        }
+    }
+
+    private static List<CareerCenterStaff> staff() {
+        List<CareerCenterStaff> staff = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            staff.add(new CareerCenterStaff("staff" + i, "Staff " + i, "staff" + i + "@ntu.edu.sg", "password", "CCDS"));
+        }
+        return staff;
+    }
+
+    private static List<CompanyRepresentative> companyReps(int internshipCount) {
+        List<CompanyRepresentative> reps = new ArrayList<>();
+        for (int i = 0; i < Math.min(500, internshipCount); i++) {
+            reps.add(new CompanyRepresentative(String.format("CR%04d", i), "Rep " + i, "rep" + i + "@company.com",
+                "password", "Company " + i, "HR", "Recruiter"));
+        }
+        return reps;
+    }
+
+    private static void addApplications(Snapshot snapshot, int count) {
+        List<Student> students = snapshot.getStudents();
+        List<InternshipOpportunity> internships = snapshot.getInternships();
+        for (int i = 0; i < count; i++) {
+            InternshipApplication application = new InternshipApplication("APP" + i,
+                students.get(i % students.size()).getUserId(), internships.get(i % internships.size()).getOpportunityId());
+            snapshot.getApplications().add(application);
+            if (i % 10 == 0) {
+                WithdrawalRequest request = new WithdrawalRequest("WR" + i, application.getStudentId(),
+                    application.getApplicationId(), true);
+                request.setRemarks(i % 20 == 0 ? null : "ok, \"quoted\"");
+                snapshot.getWithdrawalRequests().add(request);
+            }
+        }
+    }
+
+    private static void writeSerialized(Snapshot snapshot, Path file) throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeObject(new ArrayList<>(List.of(snapshot.getStudents(), snapshot.getStaff(),
+                snapshot.getCompanyReps(), snapshot.getInternships(), snapshot.getApplications(),
+                snapshot.getWithdrawalRequests())));
+        }
+    }
+
+    private static List<?> readSerialized(Path file) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return (List<?>) in.readObject();
+        }
+    }
+
+    /**
+     * Checks that the decoded state matches the original, comparing every entity's printed form
+     */
+    private static boolean matches(Snapshot original, Snapshot decoded) {
+        return decoded != null
+            && original.getStudents().toString().equals(decoded.getStudents().toString())
+            && original.getInternships().toString().equals(decoded.getInternships().toString())
+            && original.getApplications().toString().equals(decoded.getApplications().toString())
+            && original.getWithdrawalRequests().toString().equals(decoded.getWithdrawalRequests().toString())
+            && original.getCompanyReps().size() == decoded.getCompanyReps().size()
+            && original.getStaff().size() == decoded.getStaff().size();
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
\ No newline at end of file
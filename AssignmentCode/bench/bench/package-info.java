@@ -0,0 +1,13 @@
+/**
+ * Standalone benchmarks and stress checks. Each class has a main method and needs no test framework.
+ * <p>
+ * Build them together with the application sources and run one by class name from the
+ * AssignmentCode directory, for example:
+ * <pre>
+ * javac -d bin $(find src bench -name '*.java')
+ * java -cp bin bench.SnapshotBenchmark
+ * </pre>
+ * Stress checks exit with status 1 when an invariant is violated.
+ */
+
+package bench;
\ No newline at end of file
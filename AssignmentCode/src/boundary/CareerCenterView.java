@@ -4,6 +4,7 @@ import controller.*;
 import entity.user.CompanyRepresentative;
 import entity.domain.InternshipOpportunity;
 import entity.domain.WithdrawalRequest;
+import enums.ApplicationStatus;
 import enums.InternshipStatus;
 import enums.InternshipLevel;
 import enums.Major;
@@ -17,10 +18,15 @@ import java.util.Scanner;
  */
 public class CareerCenterView {
     
+    private static final int SEARCH_RESULT_LIMIT = 20;
+    private static final int SUGGESTION_LIMIT = 10;
+    private static final int PAGE_SIZE = 10;
+    
     private Scanner scanner;
     private AuthController authController;
     private CareerCenterController careerCenterController;
     private InternshipView internshipView;
+    private PageNavigator pageNavigator;
     private SessionManager sessionManager;
     
     public CareerCenterView(AuthController authController,
@@ -30,6 +36,7 @@ public class CareerCenterView {
         this.authController = authController;
         this.careerCenterController = careerCenterController;
         this.internshipView = internshipView;
+        this.pageNavigator = new PageNavigator(scanner);
         this.sessionManager = SessionManager.getInstance();
     }
     
@@ -44,10 +51,16 @@ public class CareerCenterView {
         System.out.println("3. Process Withdrawal Requests");
         System.out.println("4. Generate Internship Report");
         System.out.println("5. Change Password");
-        System.out.println("6. Logout");
+        System.out.println("6. Search Internships by Keyword");
+        System.out.println("7. Find Internships by Company or Title");
+        System.out.println("8. View Dashboard");
+        System.out.println("9. Logout");
         System.out.print("Enter choice: ");
         
         String choice = scanner.nextLine().trim();
+        if (!sessionActive()) {
+            return;
+        }
         
         switch (choice) {
             case "1":
@@ -66,6 +79,15 @@ public class CareerCenterView {
                 changePassword();
                 break;
             case "6":
+                searchInternships();
+                break;
+            case "7":
+                findByPrefix();
+                break;
+            case "8":
+                viewDashboard();
+                break;
+            case "9":
                 authController.logout();
                 break;
             default:
@@ -73,6 +95,18 @@ public class CareerCenterView {
         }
     }
     
+    /**
+     * Checks that the session is still active before acting on a choice (the account may be
+     * removed by a file reload while the menu waits for input)
+     */
+    private boolean sessionActive() {
+        if (authController.isLoggedIn()) {
+            return true;
+        }
+        System.out.println("Your session has ended. Returning to the login menu.");
+        return false;
+    }
+    
     /**
      * Processes company representative registrations
      */
@@ -114,6 +148,9 @@ public class CareerCenterView {
         System.out.println("2. Reject");
         System.out.print("Enter choice: ");
         String choice = scanner.nextLine().trim();
+        if (!sessionActive()) {
+            return;
+        }
         
         switch (choice) {
             case "1":
@@ -134,14 +171,16 @@ public class CareerCenterView {
     private void processInternshipApprovals() {
         System.out.println("\n========== PENDING INTERNSHIP OPPORTUNITIES ==========");
         
-        List<InternshipOpportunity> pendingInternships = careerCenterController.getPendingInternships();
+        Page<InternshipOpportunity> pendingInternships = careerCenterController.getPendingInternships(null, PAGE_SIZE);
         
         if (pendingInternships.isEmpty()) {
             System.out.println("No pending internship opportunities.");
             return;
         }
         
-        internshipView.displayInternshipList(pendingInternships);
+        pageNavigator.browse(pendingInternships,
+            cursor -> careerCenterController.getPendingInternships(cursor, PAGE_SIZE),
+            internshipView::displayInternshipPage);
         
         System.out.print("\nEnter Internship ID to process (or 'cancel'): ");
         String internshipId = scanner.nextLine().trim();
@@ -150,7 +189,7 @@ public class CareerCenterView {
             return;
         }
         
-        InternshipOpportunity internship = findInternshipById(pendingInternships, internshipId);
+        InternshipOpportunity internship = careerCenterController.findPendingInternship(internshipId);
         
         if (internship == null) {
             System.out.println("Invalid Internship ID.");
@@ -163,6 +202,9 @@ public class CareerCenterView {
         System.out.println("2. Reject");
         System.out.print("Enter choice: ");
         String choice = scanner.nextLine().trim();
+        if (!sessionActive()) {
+            return;
+        }
         
         switch (choice) {
             case "1":
@@ -220,6 +262,9 @@ public class CareerCenterView {
         
         System.out.print("Remarks: ");
         String remarks = scanner.nextLine().trim();
+        if (!sessionActive()) {
+            return;
+        }
         
         switch (choice) {
             case "1":
@@ -315,11 +360,104 @@ public class CareerCenterView {
             }
         }
         
-        // Generate report
-        List<InternshipOpportunity> report = careerCenterController.generateReport(status, major, level);
+        // Generate report, one page at a time
+        InternshipStatus statusFilter = status;
+        Major majorFilter = major;
+        InternshipLevel levelFilter = level;
+        Page<InternshipOpportunity> report =
+            careerCenterController.generateReport(statusFilter, majorFilter, levelFilter, null, PAGE_SIZE);
         
         System.out.println("\n========== REPORT RESULTS ==========");
-        internshipView.displayInternshipList(report);
+        if (report.isEmpty()) {
+            System.out.println("No internships to display.");
+            return;
+        }
+        System.out.println("Total: " + careerCenterController.countReport(statusFilter, majorFilter, levelFilter)
+            + " internship(s)");
+        pageNavigator.browse(report,
+            cursor -> careerCenterController.generateReport(statusFilter, majorFilter, levelFilter, cursor, PAGE_SIZE),
+            internshipView::displayInternshipPage);
+    }
+    
+    /**
+     * Displays live counts of postings, slots, applications and withdrawals
+     */
+    private void viewDashboard() {
+        System.out.println("\n========== DASHBOARD ==========");
+        
+        System.out.println("\nInternships by status (total / basic / intermediate / advanced):");
+        for (InternshipStatus status : InternshipStatus.values()) {
+            System.out.println("  " + status.getDisplayName() + ": " + countsByLevel(status));
+        }
+        
+        System.out.println("\nInternships by major (pending / approved / rejected / filled):");
+        for (Major major : Major.values()) {
+            StringBuilder counts = new StringBuilder();
+            for (InternshipStatus status : InternshipStatus.values()) {
+                counts.append(counts.length() == 0 ? "" : " / ").append(careerCenterController.countPostings(status, major, null));
+            }
+            System.out.println("  " + major.getFullName() + ": " + counts);
+        }
+        
+        System.out.println("\nApplications:");
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            System.out.println("  " + status.getDisplayName() + ": " + careerCenterController.countApplications(status));
+        }
+        System.out.println("Pending withdrawal requests: " + careerCenterController.countPendingWithdrawals());
+        
+        Page<String> companies = careerCenterController.getDashboardCompanies(null, PAGE_SIZE);
+        if (companies.isEmpty()) {
+            return;
+        }
+        System.out.println("\nFilled / total slots by company:");
+        pageNavigator.browse(companies,
+            cursor -> careerCenterController.getDashboardCompanies(cursor, PAGE_SIZE),
+            names -> names.forEach(name -> System.out.println("  " + name + ": "
+                + careerCenterController.getFilledSlots(name) + " / " + careerCenterController.getTotalSlots(name))));
+    }
+    
+    /**
+     * Formats the total and per-level posting counts for a status
+     */
+    private String countsByLevel(InternshipStatus status) {
+        StringBuilder counts = new StringBuilder().append(careerCenterController.countPostings(status, null, null));
+        for (InternshipLevel level : InternshipLevel.values()) {
+            counts.append(" / ").append(careerCenterController.countPostings(status, null, level));
+        }
+        return counts.toString();
+    }
+    
+    /**
+     * Searches all internships by keyword
+     */
+    private void searchInternships() {
+        System.out.println("\n========== SEARCH INTERNSHIPS ==========");
+        System.out.print("Enter keywords: ");
+        String query = scanner.nextLine().trim();
+        
+        List<InternshipOpportunity> results = careerCenterController.searchInternships(query, SEARCH_RESULT_LIMIT);
+        
+        System.out.println("\n========== SEARCH RESULTS ==========");
+        internshipView.displayInternshipList(results);
+    }
+    
+    /**
+     * Narrows all internships by the start of a company name or title
+     */
+    private void findByPrefix() {
+        System.out.println("\n========== FIND BY COMPANY OR TITLE ==========");
+        System.out.print("Enter the start of a company name or title: ");
+        String prefix = scanner.nextLine().trim();
+        
+        List<String> companies = careerCenterController.suggestCompanies(prefix, SUGGESTION_LIMIT);
+        if (!companies.isEmpty()) {
+            System.out.println("Matching companies: " + String.join(", ", companies));
+        }
+        
+        List<InternshipOpportunity> results = careerCenterController.findInternshipsByPrefix(prefix, SEARCH_RESULT_LIMIT);
+        
+        System.out.println("\n========== MATCHING INTERNSHIPS ==========");
+        internshipView.displayInternshipList(results);
     }
     
     /**
@@ -357,16 +495,6 @@ public class CareerCenterView {
             .orElse(null);
     }
     
-    /**
-     * Helper to find internship by ID
-     */
-    private InternshipOpportunity findInternshipById(List<InternshipOpportunity> internships, String id) {
-        return internships.stream()
-            .filter(i -> i.getOpportunityId().equals(id))
-            .findFirst()
-            .orElse(null);
-    }
-    
     /**
      * Helper to find withdrawal request by ID
      */
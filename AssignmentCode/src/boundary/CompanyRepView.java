@@ -20,11 +20,14 @@ import java.util.Scanner;
  */
 public class CompanyRepView {
     
+    private static final int PAGE_SIZE = 10;
+    
     private Scanner scanner;
     private AuthController authController;
     private CompanyRepController companyRepController;
     private InternshipController internshipController;
     private InternshipView internshipView;
+    private PageNavigator pageNavigator;
     private SessionManager sessionManager;
     private List<CompanyRepresentative> companyReps;
     
@@ -38,6 +41,7 @@ public class CompanyRepView {
         this.companyRepController = companyRepController;
         this.internshipController = internshipController;
         this.internshipView = internshipView;
+        this.pageNavigator = new PageNavigator(scanner);
         this.sessionManager = SessionManager.getInstance();
         this.companyReps = companyReps;
     }
@@ -122,6 +126,7 @@ public class CompanyRepView {
         );
         
         companyReps.add(newRep);
+        internshipController.indexCompany(newRep);
         
         System.out.println("\n=== Registration Successful ===");
         System.out.println("Your Company Representative ID: " + repId);
@@ -130,7 +135,7 @@ public class CompanyRepView {
         System.out.println("You will be able to login once approved.");
         
         // Save to file
-        FileHandler.saveCompanyReps(companyReps, "assets/company_representative_list.csv");
+        FileHandler.saveCompanyRep(companyReps, newRep, "assets/company_representative_list.csv");
     }
     
     /**
@@ -243,14 +248,16 @@ public class CompanyRepView {
      */
     private void viewMyInternships(CompanyRepresentative rep) {
         System.out.println("\n========== MY INTERNSHIP OPPORTUNITIES ==========");
-        List<InternshipOpportunity> internships = companyRepController.getRepInternships(rep);
+        Page<InternshipOpportunity> internships = companyRepController.getRepInternships(rep, null, PAGE_SIZE);
         
         if (internships.isEmpty()) {
             System.out.println("You have not created any internship opportunities yet.");
             return;
         }
         
-        internshipView.displayInternshipList(internships);
+        pageNavigator.browse(internships,
+            cursor -> companyRepController.getRepInternships(rep, cursor, PAGE_SIZE),
+            internshipView::displayInternshipPage);
     }
     
     /**
@@ -330,14 +337,16 @@ public class CompanyRepView {
     private void deleteInternship(CompanyRepresentative rep) {
         System.out.println("\n========== DELETE INTERNSHIP OPPORTUNITY ==========");
         
-        List<InternshipOpportunity> internships = companyRepController.getRepInternships(rep);
+        Page<InternshipOpportunity> internships = companyRepController.getRepInternships(rep, null, PAGE_SIZE);
         
         if (internships.isEmpty()) {
             System.out.println("You have no internships to delete.");
             return;
         }
         
-        internshipView.displayInternshipList(internships);
+        pageNavigator.browse(internships,
+            cursor -> companyRepController.getRepInternships(rep, cursor, PAGE_SIZE),
+            internshipView::displayInternshipPage);
         
         System.out.print("\nEnter Internship ID to delete (or 'cancel'): ");
         String internshipId = scanner.nextLine().trim();
@@ -369,28 +378,37 @@ public class CompanyRepView {
     private void viewApplications(CompanyRepresentative rep) {
         System.out.println("\n========== APPLICATIONS FOR MY INTERNSHIPS ==========");
         
-        List<InternshipOpportunity> internships = companyRepController.getRepInternships(rep);
+        Page<InternshipApplication> applications = companyRepController.getRepApplications(rep, null, PAGE_SIZE);
         
-        if (internships.isEmpty()) {
-            System.out.println("You have no internship opportunities.");
+        if (applications.isEmpty()) {
+            System.out.println("You have no applications for your internship opportunities.");
             return;
         }
         
-        for (InternshipOpportunity internship : internships) {
-            List<InternshipApplication> applications = internship.getApplications();
-            
-            if (!applications.isEmpty()) {
-                System.out.println("\n--- " + internship.getTitle() + " (" + internship.getOpportunityId() + ") ---");
-                System.out.println("Total Applications: " + applications.size());
-                
-                for (InternshipApplication app : applications) {
-                    System.out.println("\n  Application ID: " + app.getApplicationId());
-                    System.out.println("  Student ID: " + app.getStudentId());
-                    System.out.println("  Status: " + app.getApplicationStatus().getDisplayName());
-                    System.out.println("  Applied on: " + app.getApplicationDate());
-                    System.out.println("  Placement Confirmed: " + (app.isPlacementConfirmed() ? "Yes" : "No"));
-                }
+        pageNavigator.browse(applications,
+            cursor -> companyRepController.getRepApplications(rep, cursor, PAGE_SIZE),
+            this::displayApplications);
+    }
+    
+    /**
+     * Displays a page of applications, under the internship each one is for
+     */
+    private void displayApplications(List<InternshipApplication> applications) {
+        String currentInternship = null;
+        
+        for (InternshipApplication app : applications) {
+            if (!app.getOpportunityId().equals(currentInternship)) {
+                currentInternship = app.getOpportunityId();
+                InternshipOpportunity internship = internshipController.findInternshipById(currentInternship);
+                String title = internship != null ? internship.getTitle() : "Unknown internship";
+                System.out.println("\n--- " + title + " (" + currentInternship + ") ---");
             }
+            
+            System.out.println("\n  Application ID: " + app.getApplicationId());
+            System.out.println("  Student ID: " + app.getStudentId());
+            System.out.println("  Status: " + app.getApplicationStatus().getDisplayName());
+            System.out.println("  Applied on: " + app.getApplicationDate());
+            System.out.println("  Placement Confirmed: " + (app.isPlacementConfirmed() ? "Yes" : "No"));
         }
     }
     
@@ -410,7 +428,7 @@ public class CompanyRepView {
         }
         
         // Find application (we need a method in studentController)
-        InternshipApplication application = findApplicationById(appId, rep);
+        InternshipApplication application = companyRepController.findApplication(rep, appId);
         
         if (application == null) {
             System.out.println("Invalid Application ID or application not found in your internships.");
@@ -434,37 +452,22 @@ public class CompanyRepView {
         }
     }
     
-    /**
-     * Helper to find application by ID within rep's internships
-     */
-    private InternshipApplication findApplicationById(String appId, CompanyRepresentative rep) {
-        List<InternshipOpportunity> internships = companyRepController.getRepInternships(rep);
-        
-        for (InternshipOpportunity internship : internships) {
-            for (InternshipApplication app : internship.getApplications()) {
-                if (app.getApplicationId().equals(appId)) {
-                    return app;
-                }
-            }
-        }
-        
-        return null;
-    }
-    
     /**
      * Toggles internship visibility
      */
     private void toggleVisibility(CompanyRepresentative rep) {
         System.out.println("\n========== TOGGLE INTERNSHIP VISIBILITY ==========");
         
-        List<InternshipOpportunity> internships = companyRepController.getRepInternships(rep);
+        Page<InternshipOpportunity> internships = companyRepController.getRepInternships(rep, null, PAGE_SIZE);
         
         if (internships.isEmpty()) {
             System.out.println("You have no internships.");
             return;
         }
         
-        internshipView.displayInternshipList(internships);
+        pageNavigator.browse(internships,
+            cursor -> companyRepController.getRepInternships(rep, cursor, PAGE_SIZE),
+            internshipView::displayInternshipPage);
         
         System.out.print("\nEnter Internship ID to toggle visibility (or 'cancel'): ");
         String internshipId = scanner.nextLine().trim();
@@ -26,6 +26,22 @@ public class InternshipView {
         }
     }
     
+    /**
+     * Displays one page of internships
+     */
+    public void displayInternshipPage(List<InternshipOpportunity> internships) {
+        if (internships.isEmpty()) {
+            System.out.println("No internships to display.");
+            return;
+        }
+        
+        System.out.println();
+        for (InternshipOpportunity internship : internships) {
+            displayInternshipSummary(internship);
+            System.out.println("----------------------------------------");
+        }
+    }
+    
     /**
      * Displays summary of a single internship
      */
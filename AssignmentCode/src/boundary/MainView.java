@@ -31,7 +31,7 @@ public class MainView {
     }
     
     /**
-     * Displays the main menu and handles navigation
+     * Displays the main menu and handles navigation; returns when the user exits
      */
     public void start() {
         System.out.println("==============================================");
@@ -42,7 +42,7 @@ public class MainView {
         
         while (running) {
             if (!sessionManager.isLoggedIn()) {
-                displayLoginMenu();
+                running = displayLoginMenu();
             } else {
                 routeToUserView();
             }
@@ -51,8 +51,9 @@ public class MainView {
     
     /**
      * Displays login menu
+     * @return false if the user chose to exit
      */
-    private void displayLoginMenu() {
+    private boolean displayLoginMenu() {
         System.out.println("\n========== LOGIN MENU ==========");
         System.out.println("1. Login");
         System.out.println("2. Register as Company Representative");
@@ -70,11 +71,11 @@ public class MainView {
                 break;
             case "3":
                 System.out.println("Thank you for using the system. Goodbye!");
-                System.exit(0);
-                break;
+                return false;
             default:
                 System.out.println("Invalid choice. Please try again.");
         }
+        return true;
     }
     
     /**
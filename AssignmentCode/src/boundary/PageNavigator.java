@@ -0,0 +1,53 @@
+package boundary;
+
+import controller.Page;
+
+import java.util.List;
+import java.util.Scanner;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reusable view for stepping through a paged listing with next and previous commands
+ */
+public class PageNavigator {
+    
+    private Scanner scanner;
+    
+    public PageNavigator(Scanner scanner) {
+        this.scanner = scanner;
+    }
+    
+    /**
+     * Displays the first page, then fetches and displays other pages on request until the user
+     * presses Enter
+     * @param first First page, already fetched
+     * @param pages Fetches the page at a cursor
+     * @param display Displays the items of one page
+     */
+    public <T> void browse(Page<T> first, Function<String, Page<T>> pages, Consumer<List<T>> display) {
+        Page<T> page = first;
+        
+        while (true) {
+            display.accept(page.getItems());
+            
+            if (!page.hasNext() && !page.hasPrevious()) {
+                return;
+            }
+            
+            int last = page.getFirstPosition() + page.getItems().size() - 1;
+            System.out.println("Page " + page.getPageNumber() + " (items " + page.getFirstPosition() + "-" + last + ")");
+            System.out.print((page.hasNext() ? "[n] Next page  " : "") + (page.hasPrevious() ? "[p] Previous page  " : "")
+                + "[Enter] Done: ");
+            String choice = scanner.nextLine().trim();
+            
+            if (choice.equalsIgnoreCase("n") && page.hasNext()) {
+                page = pages.apply(page.getNextCursor());
+            } else if (choice.equalsIgnoreCase("p") && page.hasPrevious()) {
+                page = pages.apply(page.getPreviousCursor());
+            } else {
+                return;
+            }
+        }
+    }
+}
\ No newline at end of file
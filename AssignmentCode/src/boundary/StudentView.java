@@ -15,11 +15,16 @@ import java.util.Scanner;
  */
 public class StudentView {
     
+    private static final int SEARCH_RESULT_LIMIT = 20;
+    private static final int SUGGESTION_LIMIT = 10;
+    private static final int PAGE_SIZE = 10;
+    
     private Scanner scanner;
     private AuthController authController;
     private StudentController studentController;
     private InternshipController internshipController;
     private InternshipView internshipView;
+    private PageNavigator pageNavigator;
     private SessionManager sessionManager;
     
     public StudentView(AuthController authController,
@@ -31,6 +36,7 @@ public class StudentView {
         this.studentController = studentController;
         this.internshipController = internshipController;
         this.internshipView = internshipView;
+        this.pageNavigator = new PageNavigator(scanner);
         this.sessionManager = SessionManager.getInstance();
     }
     
@@ -48,10 +54,15 @@ public class StudentView {
         System.out.println("4. Accept Placement");
         System.out.println("5. Request Withdrawal");
         System.out.println("6. Change Password");
-        System.out.println("7. Logout");
+        System.out.println("7. Search Internships by Keyword");
+        System.out.println("8. Find Internships by Company or Title");
+        System.out.println("9. Logout");
         System.out.print("Enter choice: ");
         
         String choice = scanner.nextLine().trim();
+        if (!sessionActive()) {
+            return;
+        }
         
         switch (choice) {
             case "1":
@@ -73,6 +84,12 @@ public class StudentView {
                 changePassword();
                 break;
             case "7":
+                searchInternships(student);
+                break;
+            case "8":
+                findByPrefix(student);
+                break;
+            case "9":
                 authController.logout();
                 break;
             default:
@@ -80,18 +97,75 @@ public class StudentView {
         }
     }
     
+    /**
+     * Checks that the session is still active before acting on a choice (the account may be
+     * removed by a file reload while the menu waits for input)
+     */
+    private boolean sessionActive() {
+        if (authController.isLoggedIn()) {
+            return true;
+        }
+        System.out.println("Your session has ended. Returning to the login menu.");
+        return false;
+    }
+    
     /**
      * Displays available internships for the student
      */
     private void viewAvailableInternships(Student student) {
         System.out.println("\n========== AVAILABLE INTERNSHIPS ==========");
-        List<InternshipOpportunity> internships = internshipController.getInternshipsForStudent(student);
+        Page<InternshipOpportunity> internships = internshipController.getInternshipsForStudent(student, null, PAGE_SIZE);
         
         if (internships.isEmpty()) {
             System.out.println("No internships available for your profile.");
             return;
         }
         
+        pageNavigator.browse(internships,
+            cursor -> internshipController.getInternshipsForStudent(student, cursor, PAGE_SIZE),
+            internshipView::displayInternshipPage);
+    }
+    
+    /**
+     * Searches the internships available to the student by keyword
+     */
+    private void searchInternships(Student student) {
+        System.out.println("\n========== SEARCH INTERNSHIPS ==========");
+        System.out.print("Enter keywords: ");
+        String query = scanner.nextLine().trim();
+        
+        List<InternshipOpportunity> internships =
+            internshipController.searchInternshipsForStudent(student, query, SEARCH_RESULT_LIMIT);
+        
+        if (internships.isEmpty()) {
+            System.out.println("No matching internships available for your profile.");
+            return;
+        }
+        
+        internshipView.displayInternshipList(internships);
+    }
+    
+    /**
+     * Narrows the internships available to the student by the start of a company name or title
+     */
+    private void findByPrefix(Student student) {
+        System.out.println("\n========== FIND BY COMPANY OR TITLE ==========");
+        System.out.print("Enter the start of a company name or title: ");
+        String prefix = scanner.nextLine().trim();
+        
+        List<String> companies = internshipController.suggestCompaniesForStudent(student, prefix, SUGGESTION_LIMIT);
+        if (!companies.isEmpty()) {
+            System.out.println("Matching companies: " + String.join(", ", companies));
+        }
+        
+        List<InternshipOpportunity> internships =
+            internshipController.findInternshipsByPrefixForStudent(student, prefix, SEARCH_RESULT_LIMIT);
+        
+        if (internships.isEmpty()) {
+            System.out.println("No matching internships available for your profile.");
+            return;
+        }
+        
         internshipView.displayInternshipList(internships);
     }
     
@@ -109,14 +183,16 @@ public class StudentView {
         }
         
         // Show available internships
-        List<InternshipOpportunity> internships = internshipController.getInternshipsForStudent(student);
+        Page<InternshipOpportunity> internships = internshipController.getInternshipsForStudent(student, null, PAGE_SIZE);
         
         if (internships.isEmpty()) {
             System.out.println("No internships available for you to apply.");
             return;
         }
         
-        internshipView.displayInternshipList(internships);
+        pageNavigator.browse(internships,
+            cursor -> internshipController.getInternshipsForStudent(student, cursor, PAGE_SIZE),
+            internshipView::displayInternshipPage);
         
         System.out.print("\nEnter Internship ID to apply (or 'cancel' to go back): ");
         String internshipId = scanner.nextLine().trim();
@@ -132,6 +208,9 @@ public class StudentView {
             return;
         }
         
+        if (!sessionActive()) {
+            return;
+        }
         studentController.applyForInternship(student, internship);
     }
     
@@ -140,13 +219,22 @@ public class StudentView {
      */
     private void viewMyApplications(Student student) {
         System.out.println("\n========== MY APPLICATIONS ==========");
-        List<InternshipApplication> applications = studentController.getStudentApplications(student);
+        Page<InternshipApplication> applications = studentController.getStudentApplications(student, null, PAGE_SIZE);
         
         if (applications.isEmpty()) {
             System.out.println("You have no applications yet.");
             return;
         }
         
+        pageNavigator.browse(applications,
+            cursor -> studentController.getStudentApplications(student, cursor, PAGE_SIZE),
+            this::displayApplications);
+    }
+    
+    /**
+     * Displays a page of the student's applications
+     */
+    private void displayApplications(List<InternshipApplication> applications) {
         for (InternshipApplication app : applications) {
             InternshipOpportunity internship = internshipController.findInternshipById(app.getOpportunityId());
             
@@ -206,6 +294,9 @@ public class StudentView {
         System.out.print("Are you sure? (yes/no): ");
         String confirm = scanner.nextLine().trim();
         
+        if (!sessionActive()) {
+            return;
+        }
         if (confirm.equalsIgnoreCase("yes")) {
             studentController.acceptPlacement(student, application);
         } else {
@@ -256,6 +347,9 @@ public class StudentView {
         
         System.out.print("Reason for withdrawal: ");
         String reason = scanner.nextLine().trim();
+        if (!sessionActive()) {
+            return;
+        }
         
         studentController.requestWithdrawal(student, application, reason);
     }
@@ -6,6 +6,7 @@
  * <li>Main View on Initialisation</li>
  * <li>Student View</li>
  * <li>Internship View</li>
+ * <li>Page Navigation for Long Listings</li>
  * <li>Career Center Staff View</li>
  * <li>Company Representative View</li>
  * </ul>
@@ -4,10 +4,17 @@ import entity.user.User;
 import entity.user.Student;
 import entity.user.CompanyRepresentative;
 import entity.user.CareerCenterStaff;
+import util.FileHandler;
 import util.SessionManager;
+import util.UserDiff;
 import util.ValidationUtil;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Handles user authentication operations
@@ -18,6 +25,8 @@ public class AuthController {
     private List<CompanyRepresentative> companyReps;
     private List<CareerCenterStaff> staff;
     private SessionManager sessionManager;
+    private Map<String, Student> studentsById;
+    private Map<String, CareerCenterStaff> staffById;
     
     public AuthController(List<Student> students, 
                          List<CompanyRepresentative> companyReps,
@@ -26,6 +35,14 @@ public class AuthController {
         this.companyReps = companyReps;
         this.staff = staff;
         this.sessionManager = SessionManager.getInstance();
+        this.studentsById = new HashMap<>();
+        for (Student student : students) {
+            studentsById.putIfAbsent(student.getUserId(), student);
+        }
+        this.staffById = new HashMap<>();
+        for (CareerCenterStaff staffMember : staff) {
+            staffById.putIfAbsent(staffMember.getUserId(), staffMember);
+        }
     }
     
     /**
@@ -34,7 +51,7 @@ public class AuthController {
      * @param password Password
      * @return true if login successful, false otherwise
      */
-    public boolean login(String userId, String password) {
+    public synchronized boolean login(String userId, String password) {
         User user = findUser(userId);
         
         if (user == null) {
@@ -110,10 +127,9 @@ public class AuthController {
         String upperUserID = userId.toUpperCase();
         // Check if it's a student ID
         if (ValidationUtil.isValidStudentId(upperUserID)) {
-            for (Student student : students) {
-                if (student.getUserId().equals(upperUserID)) {
-                    return student;
-                }
+            Student student = studentsById.get(upperUserID);
+            if (student != null) {
+                return student;
             }
         }
 
@@ -121,10 +137,9 @@ public class AuthController {
         String lowerStaffID = userId.toLowerCase();
         // Check if it's a staff ID
         if (ValidationUtil.isValidStaffId(lowerStaffID)) {
-            for (CareerCenterStaff staffMember : staff) {
-                if (staffMember.getUserId().equals(lowerStaffID)) {
-                    return staffMember;
-                }
+            CareerCenterStaff staffMember = staffById.get(lowerStaffID);
+            if (staffMember != null) {
+                return staffMember;
             }
         }
 
@@ -147,6 +162,112 @@ public class AuthController {
         return null;
     }
     
+    /**
+     * Re-reads the student file and applies its changes without a restart
+     * <p>
+     * The in-memory students are copied under the lock and the file is compared with the copy
+     * outside it; only the resulting changes are applied while logins wait.
+     */
+    public void reloadStudents(String filePath) {
+        List<Student> current;
+        synchronized (this) {
+            current = new ArrayList<>(students);
+        }
+        UserDiff<Student> diff = FileHandler.diffStudents(filePath, current);
+        if (diff != null && !diff.isEmpty()) {
+            applyStudentChanges(diff);
+            System.out.println("\nReloaded " + filePath + ": " + diff);
+        }
+    }
+    
+    /**
+     * Re-reads the staff file and applies its changes without a restart
+     */
+    public void reloadStaff(String filePath) {
+        List<CareerCenterStaff> current;
+        synchronized (this) {
+            current = new ArrayList<>(staff);
+        }
+        UserDiff<CareerCenterStaff> diff = FileHandler.diffStaff(filePath, current);
+        if (diff != null && !diff.isEmpty()) {
+            applyStaffChanges(diff);
+            System.out.println("\nReloaded " + filePath + ": " + diff);
+        }
+    }
+    
+    /**
+     * Applies changes from a reloaded student file: updates existing students in place (so their
+     * applications stay linked), adds new students and removes deleted ones
+     */
+    private synchronized void applyStudentChanges(UserDiff<Student> diff) {
+        List<Student> targets = diff.getUpdatedTargets();
+        List<Student> values = diff.getUpdatedValues();
+        for (int i = 0; i < targets.size(); i++) {
+            Student student = targets.get(i);
+            Student updated = values.get(i);
+            student.setName(updated.getName());
+            student.setEmail(updated.getEmail());
+            student.setYearOfStudy(updated.getYearOfStudy());
+            student.setMajor(updated.getMajor());
+        }
+        
+        for (Student student : diff.getInserted()) {
+            students.add(student);
+            studentsById.put(student.getUserId(), student);
+        }
+        
+        if (!diff.getRemoved().isEmpty()) {
+            Set<Student> removed = new HashSet<>(diff.getRemoved());
+            students.removeIf(removed::contains);
+            for (Student student : removed) {
+                studentsById.remove(student.getUserId(), student);
+            }
+            endSessionIfRemoved(removed);
+        }
+    }
+    
+    /**
+     * Applies changes from a reloaded staff file: updates existing staff in place, adds new staff
+     * and removes deleted ones
+     */
+    private synchronized void applyStaffChanges(UserDiff<CareerCenterStaff> diff) {
+        List<CareerCenterStaff> targets = diff.getUpdatedTargets();
+        List<CareerCenterStaff> values = diff.getUpdatedValues();
+        for (int i = 0; i < targets.size(); i++) {
+            CareerCenterStaff staffMember = targets.get(i);
+            CareerCenterStaff updated = values.get(i);
+            staffMember.setName(updated.getName());
+            staffMember.setEmail(updated.getEmail());
+            staffMember.setStaffDepartment(updated.getStaffDepartment());
+        }
+        
+        for (CareerCenterStaff staffMember : diff.getInserted()) {
+            staff.add(staffMember);
+            staffById.put(staffMember.getUserId(), staffMember);
+        }
+        
+        if (!diff.getRemoved().isEmpty()) {
+            Set<CareerCenterStaff> removed = new HashSet<>(diff.getRemoved());
+            staff.removeIf(removed::contains);
+            for (CareerCenterStaff staffMember : removed) {
+                staffById.remove(staffMember.getUserId(), staffMember);
+            }
+            endSessionIfRemoved(removed);
+        }
+    }
+    
+    /**
+     * Logs out the current user if their account was removed (the menu notices before acting
+     * on its next choice and returns to the login screen)
+     */
+    private void endSessionIfRemoved(Set<? extends User> removed) {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser != null && removed.contains(currentUser)) {
+            sessionManager.logout();
+            System.out.println("\nYour account was removed by the administrator. You have been logged out.");
+        }
+    }
+    
     /**
      * Gets the current logged-in user
      */
@@ -4,13 +4,20 @@ import entity.user.CompanyRepresentative;
 import entity.domain.InternshipOpportunity;
 import entity.domain.InternshipApplication;
 import entity.domain.WithdrawalRequest;
+import enums.ApplicationStatus;
+import enums.InternshipSortKey;
 import enums.InternshipStatus;
 import enums.RequestStatus;
 import enums.InternshipLevel;
 import enums.Major;
 import util.FileHandler;
+import util.StripedLocks;
+import util.WriteBehindFlusher;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +28,9 @@ public class CareerCenterController {
     private List<CompanyRepresentative> companyReps;
     private InternshipController internshipController;
     private StudentController studentController;
+    private WriteBehindFlusher repFlusher;
+    private final Map<String, String[]> pendingRepChanges = new LinkedHashMap<>(); // Latest captured change per rep ID
+    private static final String COMPANY_REP_FILE_PATH = "assets/company_representative_list.csv";
     
     public CareerCenterController(List<CompanyRepresentative> companyReps,
                                   InternshipController internshipController,
@@ -28,6 +38,45 @@ public class CareerCenterController {
         this.companyReps = companyReps;
         this.internshipController = internshipController;
         this.studentController = studentController;
+        for (CompanyRepresentative rep : companyReps) {
+            internshipController.indexCompany(rep);
+        }
+    }
+    
+    /**
+     * Saves company representative changes in background batches instead of on every change
+     * @param maxStalenessMillis Longest a change may stay unsaved
+     * @param maxBatchSize Number of unsaved changes that triggers an immediate write
+     */
+    public void enableWriteBehind(long maxStalenessMillis, int maxBatchSize) {
+        if (repFlusher == null) {
+            repFlusher = new WriteBehindFlusher("company_representative_list.csv",
+                this::savePendingRepChanges, maxStalenessMillis, maxBatchSize);
+        }
+    }
+    
+    /**
+     * Queues a change record rendered on the calling thread for the background flusher
+     */
+    private void queueRepChange(String repId, String[] change) {
+        synchronized (pendingRepChanges) {
+            pendingRepChanges.put(repId, change);
+        }
+        repFlusher.markDirty();
+        FileHandler.compactCompanyRepLog(companyReps, COMPANY_REP_FILE_PATH);
+    }
+    
+    /**
+     * Appends the queued change records (runs on the flusher thread, which never reads the
+     * representatives themselves)
+     */
+    private void savePendingRepChanges() {
+        List<String[]> changes;
+        synchronized (pendingRepChanges) {
+            changes = new ArrayList<>(pendingRepChanges.values());
+            pendingRepChanges.clear();
+        }
+        FileHandler.saveCompanyRepChanges(changes, COMPANY_REP_FILE_PATH);
     }
     
     /**
@@ -48,7 +97,14 @@ public class CareerCenterController {
      * Updates the csv file to store a company representative's details
      */
     public void updateStatus(List<CompanyRepresentative> companyReps, CompanyRepresentative rep) {
-        FileHandler.saveCompanyReps(companyReps, "assets/company_representative_list.csv"); // UPDATED to change status of company rep in csv file
+        if (repFlusher != null) {
+            String[] change = FileHandler.captureCompanyRep(rep);
+            if (change != null) {
+                queueRepChange(rep.getUserId(), change); // Written by the background flusher
+            }
+        } else {
+            FileHandler.saveCompanyRep(companyReps, rep, COMPANY_REP_FILE_PATH); // Appends only this record
+        }
     }
     
     /**
@@ -62,6 +118,13 @@ public class CareerCenterController {
         
         // Remove from list
         companyReps.remove(rep);
+        internshipController.unindexCompany(rep);
+        if (repFlusher != null) {
+            // Replaces any queued change, so the rep cannot be written back after its removal
+            queueRepChange(rep.getUserId(), FileHandler.captureCompanyRepRemoval(rep));
+        } else {
+            FileHandler.saveCompanyRepRemoval(companyReps, rep, COMPANY_REP_FILE_PATH);
+        }
         System.out.println("Company representative registration rejected.");
         return true;
     }
@@ -90,7 +153,7 @@ public class CareerCenterController {
         }
         
         internship.setStatus(InternshipStatus.APPROVED);
-        internshipController.updateInternship(); // Save changes to CSV
+        internshipController.updateInternship(internship); // Save changes to CSV
         System.out.println("Internship opportunity approved: " + internship.getTitle());
         return true;
     }
@@ -105,7 +168,7 @@ public class CareerCenterController {
         }
         
         internship.setStatus(InternshipStatus.REJECTED);
-        internshipController.updateInternship(); // Save changes to CSV
+        internshipController.updateInternship(internship); // Save changes to CSV
         System.out.println("Internship opportunity rejected.");
         return true;
     }
@@ -119,59 +182,97 @@ public class CareerCenterController {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Gets one page of the internships pending approval (null cursor for the first page)
+     */
+    public Page<InternshipOpportunity> getPendingInternships(String cursor, int pageSize) {
+        InternshipQuery pending = InternshipQuery.where(InternshipQuery.status(InternshipStatus.PENDING));
+        return internshipController.queryPage(pending, cursor, pageSize);
+    }
+    
+    /**
+     * Finds a pending internship by ID, or null if there is none
+     */
+    public InternshipOpportunity findPendingInternship(String opportunityId) {
+        InternshipOpportunity internship = internshipController.findInternshipById(opportunityId);
+        return internship != null && internship.getStatus() == InternshipStatus.PENDING ? internship : null;
+    }
+    
     /**
      * Approves a withdrawal request
      */
     public boolean approveWithdrawal(WithdrawalRequest request, String remarks) {
-        if (request.getRequestStatus() != RequestStatus.PENDING) {
-            System.out.println("This request has already been processed.");
-            return false;
-        }
-        
-        // Find the application
-        InternshipApplication application = studentController.findApplicationById(
-            request.getApplicationId()
-        );
-        
-        if (application == null) {
-            System.out.println("Application not found.");
-            return false;
-        }
-        
-        // Approve the withdrawal
-        request.approve(remarks);
-        
-        // If placement was confirmed, free up the slot
-        if (application.isPlacementConfirmed()) {
-            InternshipOpportunity internship = internshipController.findInternshipById(
-                application.getOpportunityId()
+        StripedLocks.Held held = lockWorkflow(request);
+        try {
+            if (request.getRequestStatus() != RequestStatus.PENDING) {
+                System.out.println("This request has already been processed.");
+                return false;
+            }
+            
+            // Find the application
+            InternshipApplication application = studentController.findApplicationById(
+                request.getApplicationId()
             );
-            if (internship != null) {
-                internship.decrementFilledSlots();
-                internshipController.updateInternship(); // Save changes to CSV
+            
+            if (application == null) {
+                System.out.println("Application not found.");
+                return false;
+            }
+            
+            // Approve the withdrawal
+            request.approve(remarks);
+            
+            // If placement was confirmed, free up the slot
+            if (application.isPlacementConfirmed()) {
+                InternshipOpportunity internship = internshipController.findInternshipById(
+                    application.getOpportunityId()
+                );
+                if (internship != null) {
+                    internship.releaseSlot();
+                    internshipController.updateInternship(internship); // Save changes to CSV
+                }
             }
-        }
 
-        // Withdraw the application
-        application.withdraw();
+            // Withdraw the application
+            application.withdraw();
+            studentController.saveApplication(application);
+            studentController.saveWithdrawalRequest(request);
 
-        System.out.println("Withdrawal request approved.");
-        return true;
+            System.out.println("Withdrawal request approved.");
+            return true;
+        } finally {
+            held.unlock();
+        }
     }
     
     /**
      * Rejects a withdrawal request
      */
     public boolean rejectWithdrawal(WithdrawalRequest request, String remarks) {
-        if (request.getRequestStatus() != RequestStatus.PENDING) {
-            System.out.println("This request has already been processed.");
-            return false;
+        StripedLocks.Held held = lockWorkflow(request);
+        try {
+            if (request.getRequestStatus() != RequestStatus.PENDING) {
+                System.out.println("This request has already been processed.");
+                return false;
+            }
+            
+            request.reject(remarks);
+            studentController.saveWithdrawalRequest(request);
+            
+            System.out.println("Withdrawal request rejected.");
+            return true;
+        } finally {
+            held.unlock();
         }
-        
-        request.reject(remarks);
-        
-        System.out.println("Withdrawal request rejected.");
-        return true;
+    }
+    
+    /**
+     * Locks the internship and student the withdrawal request is about; unlock in a finally block
+     */
+    private StripedLocks.Held lockWorkflow(WithdrawalRequest request) {
+        InternshipApplication application = studentController.findApplicationById(request.getApplicationId());
+        String opportunityId = application != null ? application.getOpportunityId() : null;
+        return studentController.lockWorkflow(opportunityId, request.getStudentId());
     }
     
     /**
@@ -189,25 +290,92 @@ public class CareerCenterController {
     public List<InternshipOpportunity> generateReport(InternshipStatus status, 
                                                        Major major, 
                                                        InternshipLevel level) {
-        List<InternshipOpportunity> internships = internshipController.getAllInternships();
-        
-        // Apply filters
-        if (status != null) {
-            internships = internshipController.filterByStatus(internships, status);
-        }
-        
-        if (major != null) {
-            internships = internshipController.filterByMajor(internships, major);
-        }
-        
-        if (level != null) {
-            internships = internshipController.filterByLevel(internships, level);
-        }
-        
-        // Sort alphabetically
-        internships = internshipController.sortByTitle(internships);
-        
-        return internships;
+        // Resolve all filters over the indexes, already in alphabetical order
+        InternshipQuery report = InternshipQuery.where(InternshipController.matching(status, major, level))
+            .orderBy(InternshipSortKey.TITLE);
+        return internshipController.query(report);
+    }
+    
+    /**
+     * Returns number of internships in the report with the given filters
+     */
+    public int countReport(InternshipStatus status, Major major, InternshipLevel level) {
+        return internshipController.countInternships(status, major, level);
+    }
+    
+    /**
+     * Generates one page of the report (null cursor for the first page)
+     */
+    public Page<InternshipOpportunity> generateReport(InternshipStatus status, Major major, InternshipLevel level,
+                                                      String cursor, int pageSize) {
+        InternshipQuery report = InternshipQuery.where(InternshipController.matching(status, major, level))
+            .orderBy(InternshipSortKey.TITLE);
+        return internshipController.queryPage(report, cursor, pageSize);
+    }
+
+    /**
+     * Searches all internships by keywords in their title and description, best match first
+     */
+    public List<InternshipOpportunity> searchInternships(String query, int limit) {
+        return internshipController.searchInternships(query, limit);
+    }
+
+    /**
+     * Returns up to limit company names starting with the prefix (ignoring case), alphabetically
+     */
+    public List<String> suggestCompanies(String prefix, int limit) {
+        return internshipController.suggestCompanies(prefix, limit);
+    }
+
+    /**
+     * Returns up to limit internships whose title or company name starts with the prefix
+     */
+    public List<InternshipOpportunity> findInternshipsByPrefix(String prefix, int limit) {
+        return internshipController.findInternshipsByPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns number of postings with every given value (null for any), from the live dashboard counters
+     */
+    public int countPostings(InternshipStatus status, Major major, InternshipLevel level) {
+        return internshipController.getCounters().countPostings(status, major, level);
+    }
+    
+    /**
+     * Returns one page of the companies with postings, alphabetically (null cursor for the first page)
+     */
+    public Page<String> getDashboardCompanies(String cursor, int pageSize) {
+        List<String> companies = internshipController.getCounters().getCompanies();
+        companies.sort(String.CASE_INSENSITIVE_ORDER);
+        return Page.slice(companies, cursor, pageSize);
+    }
+    
+    /**
+     * Returns filled slots over all postings of a company
+     */
+    public int getFilledSlots(String companyName) {
+        return internshipController.getCounters().getFilledSlots(companyName);
+    }
+    
+    /**
+     * Returns total slots over all postings of a company
+     */
+    public int getTotalSlots(String companyName) {
+        return internshipController.getCounters().getTotalSlots(companyName);
+    }
+    
+    /**
+     * Returns number of applications with the status
+     */
+    public int countApplications(ApplicationStatus status) {
+        return internshipController.getCounters().countApplications(status);
+    }
+    
+    /**
+     * Returns number of withdrawal requests waiting for review
+     */
+    public int countPendingWithdrawals() {
+        return internshipController.getCounters().getPendingWithdrawalCount();
     }
 
     /**
@@ -216,4 +384,17 @@ public class CareerCenterController {
     public List<CompanyRepresentative> getCompanyReps() {
         return this.companyReps;
     }
+
+    /**
+     * Flushes pending changes and stops background persistence (call on exit)
+     * @return true if every change has been saved
+     */
+    public boolean shutdown() {
+        if (repFlusher != null) {
+            repFlusher.shutdown();
+            System.out.println("Write-behind " + repFlusher.getStats());
+            return repFlusher.getPendingSaveCount() == 0;
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import entity.domain.InternshipOpportunity;
 import entity.domain.InternshipApplication;
 import enums.ApplicationStatus;
 import enums.InternshipStatus;
+import util.StripedLocks;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -87,7 +88,7 @@ public class CompanyRepController {
             System.out.println("Internship opportunity updated successfully.");
         }
 
-        internshipController.updateInternship(); // Save changes to CSV
+        internshipController.updateInternship(internship); // Save changes to CSV
 
         return true;
     }
@@ -138,78 +139,100 @@ public class CompanyRepController {
         return internship.getApplications();
     }
     
+    /**
+     * Finds an application to one of the rep's internships by ID, or null if there is none
+     */
+    public InternshipApplication findApplication(CompanyRepresentative rep, String applicationId) {
+        InternshipApplication application = studentController.findApplicationById(applicationId);
+        if (application == null) {
+            return null;
+        }
+        InternshipOpportunity internship = internshipController.findInternshipById(application.getOpportunityId());
+        return internship != null && internship.getAssignedRepresentativeId().equals(rep.getUserId()) ? application : null;
+    }
+    
     /**
      * Company rep approves a student application
      */
     public boolean approveApplication(CompanyRepresentative rep, InternshipApplication application) {
-        
-        // Find the internship
-        InternshipOpportunity internship = internshipController.findInternshipById(
-            application.getOpportunityId()
-        );
-        
-        if (internship == null) {
-            System.out.println("Internship not found.");
-            return false;
+        StripedLocks.Held held = studentController.lockWorkflow(application.getOpportunityId(), application.getStudentId());
+        try {
+            // Find the internship
+            InternshipOpportunity internship = internshipController.findInternshipById(
+                application.getOpportunityId()
+            );
+            
+            if (internship == null) {
+                System.out.println("Internship not found.");
+                return false;
+            }
+            
+            // Verify ownership
+            if (!internship.getAssignedRepresentativeId().equals(rep.getUserId())) {
+                System.out.println("You can only approve applications for your own internships.");
+                return false;
+            }
+            
+            // Check if application is pending
+            if (application.getApplicationStatus() != ApplicationStatus.PENDING) {
+                System.out.println("This application has already been processed.");
+                return false;
+            }
+            
+            // Check if slots available
+            if (!internship.hasAvailableSlots()) {
+                System.out.println("No available slots for this internship.");
+                return false;
+            }
+            
+            // Approve application
+            application.setApplicationStatus(ApplicationStatus.SUCCESSFUL);
+            studentController.saveApplication(application);
+            
+            System.out.println("Application approved successfully!");
+            return true;
+        } finally {
+            held.unlock();
         }
-        
-        // Verify ownership
-        if (!internship.getAssignedRepresentativeId().equals(rep.getUserId())) {
-            System.out.println("You can only approve applications for your own internships.");
-            return false;
-        }
-        
-        // Check if application is pending
-        if (application.getApplicationStatus() != ApplicationStatus.PENDING) {
-            System.out.println("This application has already been processed.");
-            return false;
-        }
-        
-        // Check if slots available
-        if (!internship.hasAvailableSlots()) {
-            System.out.println("No available slots for this internship.");
-            return false;
-        }
-        
-        // Approve application
-        application.setApplicationStatus(ApplicationStatus.SUCCESSFUL);
-        
-        System.out.println("Application approved successfully!");
-        return true;
     }
     
     /**
      * Company rep rejects a student application
      */
     public boolean rejectApplication(CompanyRepresentative rep, InternshipApplication application) {
-        
-        // Find the internship
-        InternshipOpportunity internship = internshipController.findInternshipById(
-            application.getOpportunityId()
-        );
-        
-        if (internship == null) {
-            System.out.println("Internship not found.");
-            return false;
-        }
-        
-        // Verify ownership
-        if (!internship.getAssignedRepresentativeId().equals(rep.getUserId())) {
-            System.out.println("You can only reject applications for your own internships.");
-            return false;
-        }
-        
-        // Check if application is pending
-        if (application.getApplicationStatus() != ApplicationStatus.PENDING) {
-            System.out.println("This application has already been processed.");
-            return false;
+        StripedLocks.Held held = studentController.lockWorkflow(application.getOpportunityId(), application.getStudentId());
+        try {
+            // Find the internship
+            InternshipOpportunity internship = internshipController.findInternshipById(
+                application.getOpportunityId()
+            );
+            
+            if (internship == null) {
+                System.out.println("Internship not found.");
+                return false;
+            }
+            
+            // Verify ownership
+            if (!internship.getAssignedRepresentativeId().equals(rep.getUserId())) {
+                System.out.println("You can only reject applications for your own internships.");
+                return false;
+            }
+            
+            // Check if application is pending
+            if (application.getApplicationStatus() != ApplicationStatus.PENDING) {
+                System.out.println("This application has already been processed.");
+                return false;
+            }
+            
+            // Reject application
+            application.setApplicationStatus(ApplicationStatus.UNSUCCESSFUL);
+            studentController.saveApplication(application);
+            
+            System.out.println("Application rejected.");
+            return true;
+        } finally {
+            held.unlock();
         }
-        
-        // Reject application
-        application.setApplicationStatus(ApplicationStatus.UNSUCCESSFUL);
-        
-        System.out.println("Application rejected.");
-        return true;
     }
     
     /**
@@ -226,7 +249,7 @@ public class CompanyRepController {
         // Toggle visibility
         internship.setVisible(!internship.isVisible());
 
-        internshipController.updateInternship(); // Save changes to CSV
+        internshipController.updateInternship(internship); // Save changes to CSV
 
         String status = internship.isVisible() ? "visible" : "hidden";
         System.out.println("Internship is now " + status + " to students.");
@@ -239,4 +262,20 @@ public class CompanyRepController {
     public List<InternshipOpportunity> getRepInternships(CompanyRepresentative rep) {
         return internshipController.getInternshipsByRep(rep.getUserId());
     }
+    
+    /**
+     * Gets one page of the internships created by the rep (null cursor for the first page)
+     */
+    public Page<InternshipOpportunity> getRepInternships(CompanyRepresentative rep, String cursor, int pageSize) {
+        return internshipController.getInternshipsByRep(rep.getUserId(), cursor, pageSize);
+    }
+    
+    /**
+     * Gets one page of the applications to all of the rep's internships, internship by internship
+     * (null cursor for the first page)
+     */
+    public Page<InternshipApplication> getRepApplications(CompanyRepresentative rep, String cursor, int pageSize) {
+        return Page.slice(getRepInternships(rep).stream().flatMap(i -> i.getApplications().stream()),
+            cursor, pageSize);
+    }
 }
\ No newline at end of file
@@ -1,15 +1,42 @@
 package controller;
 
+import entity.domain.InternshipChangeListener;
 import entity.domain.InternshipOpportunity;
+import entity.user.CompanyRepresentative;
 import entity.user.Student;
 import enums.InternshipLevel;
+import enums.InternshipSortKey;
 import enums.InternshipStatus;
 import enums.Major;
+import enums.PersistenceMode;
+import util.DashboardCounters;
+import util.EligiblePrefixIndex;
+import util.EligibleViewCache;
+import util.CsvRows;
 import util.FileHandler;
+import util.IdAllocator;
+import util.InternshipIndex;
+import util.InternshipJournal;
+import util.OpeningCalendar;
+import util.PrefixIndex;
+import util.TextIndex;
+import util.TitleIndex;
+import util.WriteBehindFlusher;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -17,32 +44,193 @@ import java.util.stream.Collectors;
  */
 public class InternshipController {
 
-    private List<InternshipOpportunity> internships;
-    private int nextOpportunityId;
+    private volatile List<InternshipOpportunity> internships; // Copy-on-write, read without locks
+    private volatile Map<String, InternshipOpportunity> internshipsById; // Primary-key index over internships
+    private final InternshipIndex attributeIndex = new InternshipIndex(); // Status/level/major bitmaps
+    private final TitleIndex titleIndex = new TitleIndex(); // Internships in case-insensitive title order
+    private final TextIndex textIndex = new TextIndex(); // Keyword search over titles and descriptions
+    private final PrefixIndex<InternshipOpportunity> titlePrefixes = new PrefixIndex<>(); // Typeahead on titles
+    private final PrefixIndex<InternshipOpportunity> companyPrefixes = new PrefixIndex<>(); // Typeahead on companies
+    private final PrefixIndex<CompanyRepresentative> repCompanyPrefixes = new PrefixIndex<>(); // Companies without postings yet
+    private final EligibleViewCache eligibleViews = new EligibleViewCache(
+        (major, senior) -> query(InternshipQuery.where(InternshipQuery.availableTo(major, senior))));
+    private final EligiblePrefixIndex eligibleTitlePrefixes = new EligiblePrefixIndex(InternshipOpportunity::getTitle);
+    private final EligiblePrefixIndex eligibleCompanyPrefixes = new EligiblePrefixIndex(InternshipOpportunity::getCompanyName);
+    private final DashboardCounters counters = new DashboardCounters(); // Live counts for the staff dashboard
+    private final InternshipChangeListener changeListener = this::internshipChanged;
+    private final CsvRows<InternshipOpportunity> csvRows = FileHandler.newInternshipRows(); // Lines saved to the CSV
+    private OpeningCalendar calendar = new OpeningCalendar(Clock.systemDefaultZone()); // Application periods
+    private final IdAllocator opportunityIds = IdAllocator.forFile(OPPORTUNITY_ID_PATH);
+    private PersistenceMode persistenceMode;
+    private InternshipJournal journal;
+    private WriteBehindFlusher flusher;
+    private long maxStalenessMillis = WriteBehindFlusher.DEFAULT_MAX_STALENESS_MILLIS;
+    private int maxBatchSize = WriteBehindFlusher.DEFAULT_MAX_BATCH_SIZE;
     private static final String INTERNSHIP_FILE_PATH = "assets/internship_list.csv";
+    private static final String INTERNSHIP_JOURNAL_PATH = "assets/internship_journal.log";
+    private static final String OPPORTUNITY_ID_PATH = "assets/internship_ids.seq";
 
     public InternshipController() {
-        this.internships = new ArrayList<>();
-        this.nextOpportunityId = 1;
+        this.internships = new CopyOnWriteArrayList<>();
+        this.internshipsById = new ConcurrentHashMap<>();
+        this.persistenceMode = PersistenceMode.FULL_REWRITE;
     }
 
     /**
-     * Loads internships from CSV file
+     * Sets how internship changes are persisted (call before loading)
+     */
+    public void setPersistenceMode(PersistenceMode persistenceMode) {
+        this.persistenceMode = persistenceMode;
+    }
+
+    /**
+     * Sets how long changes may stay unsaved, and how many may pile up, in write-behind mode (call before loading)
+     */
+    public void setWriteBehindLimits(long maxStalenessMillis, int maxBatchSize) {
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Sets the clock that decides which internships are open for applications (call before loading;
+     * a util.VirtualClock lets time be advanced deterministically)
+     */
+    public void setClock(Clock clock) {
+        calendar.close();
+        calendar = new OpeningCalendar(clock);
+    }
+
+    /**
+     * Returns how internship changes are persisted
+     */
+    public PersistenceMode getPersistenceMode() {
+        return persistenceMode;
+    }
+
+    /**
+     * Loads internships from CSV file (and replays the journal on top in journal mode)
      */
     public void loadInternshipsFromFile() {
-        internships = FileHandler.loadInternships(INTERNSHIP_FILE_PATH);
+        List<InternshipOpportunity> loaded = FileHandler.loadInternships(INTERNSHIP_FILE_PATH);
+
+        if (persistenceMode == PersistenceMode.JOURNAL) {
+            loaded = getJournal().replay(loaded);
+            journal.startCompaction(csvRows);
+        } else if (persistenceMode == PersistenceMode.WRITE_BEHIND) {
+            startWriteBehind();
+        }
+
+        internships = new CopyOnWriteArrayList<>(loaded);
+        rebuildIndex();
         updateNextOpportunityId();
+        calendar.start();
+    }
+
+    /**
+     * Uses internships restored from a snapshot instead of reading the CSV file
+     * (the snapshot already includes every journaled change)
+     */
+    public void loadInternshipsFromSnapshot(List<InternshipOpportunity> restored) {
+        internships = new CopyOnWriteArrayList<>(restored);
+
+        if (persistenceMode == PersistenceMode.JOURNAL) {
+            getJournal().startCompaction(csvRows);
+        } else if (persistenceMode == PersistenceMode.WRITE_BEHIND) {
+            startWriteBehind();
+        }
+
+        rebuildIndex();
+        updateNextOpportunityId();
+        calendar.start();
+    }
+
+    /**
+     * Returns the internship journal, creating it on first use
+     */
+    private InternshipJournal getJournal() {
+        if (journal == null) {
+            journal = new InternshipJournal(INTERNSHIP_FILE_PATH, INTERNSHIP_JOURNAL_PATH);
+        }
+        return journal;
+    }
+
+    /**
+     * Starts the background flusher used in write-behind mode
+     */
+    private void startWriteBehind() {
+        if (flusher == null) {
+            flusher = new WriteBehindFlusher("internship_list.csv",
+                this::writeRenderedRows, maxStalenessMillis, maxBatchSize);
+        }
+    }
+
+    /**
+     * Writes the rendered lines (runs on the flusher thread; every line was rendered by the thread
+     * that changed its internship, and the rows were built before the first change was marked dirty)
+     */
+    private void writeRenderedRows() {
+        FileHandler.saveInternships(csvRows.lines(), INTERNSHIP_FILE_PATH).join();
     }
 
     /**
      * Saves internships to CSV file
+     * @return future completed once the file is durable
      */
-    public void saveInternshipsToFile() {
-        FileHandler.saveInternships(internships, INTERNSHIP_FILE_PATH);
+    public CompletableFuture<Void> saveInternshipsToFile() {
+        csvRows.buildIfNeeded(internships);
+        return FileHandler.saveInternships(csvRows.lines(), INTERNSHIP_FILE_PATH);
     }
 
     /**
-     * Updates the nextOpportunityId based on existing internships
+     * Rebuilds the indexes from the internship list (first internship wins if IDs repeat)
+     * and subscribes to changes of every internship
+     */
+    private void rebuildIndex() {
+        Map<String, InternshipOpportunity> byId = new ConcurrentHashMap<>(Math.max(16, internships.size() * 4 / 3 + 1));
+        for (InternshipOpportunity internship : internships) {
+            byId.putIfAbsent(internship.getOpportunityId(), internship);
+            internship.setChangeListener(changeListener);
+        }
+        internshipsById = byId;
+        attributeIndex.rebuild(internships);
+        titleIndex.rebuild(internships);
+        textIndex.rebuild(internships);
+        titlePrefixes.clear();
+        companyPrefixes.clear();
+        for (InternshipOpportunity internship : internships) {
+            titlePrefixes.put(internship, internship.getTitle());
+            companyPrefixes.put(internship, internship.getCompanyName());
+        }
+        eligibleViews.rebuild(internships);
+        eligibleTitlePrefixes.rebuild(internships);
+        eligibleCompanyPrefixes.rebuild(internships);
+        calendar.rebuild(internships);
+        counters.rebuildPostings(internships);
+        csvRows.reset();
+        if (journal != null && journal.getPendingRecordCount() > 0) {
+            csvRows.buildIfNeeded(internships); // Lets the replayed journal be compacted
+        }
+    }
+
+    /**
+     * Keeps the secondary indexes in step when an internship's fields change
+     */
+    private void internshipChanged(InternshipOpportunity internship) {
+        attributeIndex.update(internship);
+        titleIndex.update(internship);
+        textIndex.update(internship);
+        titlePrefixes.put(internship, internship.getTitle());
+        companyPrefixes.put(internship, internship.getCompanyName());
+        eligibleViews.changed(internship);
+        eligibleTitlePrefixes.changed(internship);
+        eligibleCompanyPrefixes.changed(internship);
+        calendar.update(internship);
+        counters.postingChanged(internship);
+        csvRows.put(internship); // Rendered here, on the thread that changed it
+    }
+
+    /**
+     * Makes sure new opportunity IDs come after those of existing internships
      */
     private void updateNextOpportunityId() {
         int maxId = 0;
@@ -57,7 +245,7 @@ public class InternshipController {
                 }
             }
         }
-        nextOpportunityId = maxId + 1;
+        opportunityIds.advancePast(maxId);
     }
     
     /**
@@ -76,7 +264,20 @@ public class InternshipController {
         );
 
         internships.add(internship);
-        saveInternshipsToFile(); // Auto-save to CSV
+        internshipsById.putIfAbsent(opportunityId, internship);
+        attributeIndex.add(internship);
+        titleIndex.add(internship);
+        textIndex.add(internship);
+        titlePrefixes.put(internship, title);
+        companyPrefixes.put(internship, companyName);
+        eligibleViews.added(internship);
+        eligibleTitlePrefixes.added(internship);
+        eligibleCompanyPrefixes.added(internship);
+        calendar.add(internship);
+        counters.postingAdded(internship);
+        csvRows.put(internship);
+        internship.setChangeListener(changeListener);
+        updateInternship(internship); // Auto-save to CSV
         return internship;
     }
     
@@ -88,35 +289,152 @@ public class InternshipController {
     }
     
     /**
-     * Gets internships visible to a specific student
+     * Gets internships visible to a specific student (read-only; served from the per-major,
+     * per-year-band view, which is rebuilt only after a posting in it changes)
      */
     public List<InternshipOpportunity> getInternshipsForStudent(Student student) {
-        return internships.stream()
-            .filter(internship -> isVisibleToStudent(internship, student))
-            .collect(Collectors.toList());
+        return eligibleViews.get(student.getMajor(), student.getYearOfStudy());
     }
     
     /**
-     * Checks if an internship is visible to a student
+     * Gets one page of the internships visible to a student (null cursor for the first page)
      */
-    private boolean isVisibleToStudent(InternshipOpportunity internship, Student student) {
-        // Must be visible
-        if (!internship.isVisible()) {
-            return false;
+    public Page<InternshipOpportunity> getInternshipsForStudent(Student student, String cursor, int pageSize) {
+        return Page.slice(getInternshipsForStudent(student), cursor, pageSize);
+    }
+    
+    /**
+     * Searches all internships by keywords in their title and description, best match first
+     * @param limit Maximum number of results
+     */
+    public List<InternshipOpportunity> searchInternships(String query, int limit) {
+        return textIndex.search(query, internship -> true, limit);
+    }
+    
+    /**
+     * Searches the internships visible to a student by keywords, best match first
+     * @param limit Maximum number of results
+     */
+    public List<InternshipOpportunity> searchInternshipsForStudent(Student student, String query, int limit) {
+        return textIndex.search(query, internship -> isVisibleToStudent(internship, student), limit);
+    }
+    
+    /**
+     * Returns up to limit company names starting with the prefix (ignoring case), alphabetically.
+     * Companies of registered representatives are included before they post anything, and so are
+     * pending, rejected and hidden postings: for staff only.
+     */
+    public List<String> suggestCompanies(String prefix, int limit) {
+        TreeMap<String, String> names = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String name : companyPrefixes.complete(prefix, limit)) {
+            names.putIfAbsent(name, name);
         }
-        
-        // Must be approved
-        if (internship.getStatus() != InternshipStatus.APPROVED) {
-            return false;
+        for (String name : repCompanyPrefixes.complete(prefix, limit)) {
+            names.putIfAbsent(name, name);
         }
-        
-        // Check major match
-        if (internship.getPreferredMajor() != student.getMajor()) {
-            return false;
+        return new ArrayList<>(names.values()).subList(0, Math.min(limit, names.size()));
+    }
+    
+    /**
+     * Returns up to limit names of companies with an internship visible to the student starting
+     * with the prefix (ignoring case), alphabetically
+     */
+    public List<String> suggestCompaniesForStudent(Student student, String prefix, int limit) {
+        return eligibleCompanyPrefixes.complete(student.getMajor(), student.getYearOfStudy(), prefix, limit);
+    }
+    
+    /**
+     * Returns up to limit internships whose title or company name starts with the prefix
+     * (ignoring case); title matches come first, each group alphabetically
+     */
+    public List<InternshipOpportunity> findInternshipsByPrefix(String prefix, int limit) {
+        return appendCompanyMatches(titlePrefixes.withPrefix(prefix, internship -> true, limit),
+            () -> companyPrefixes.withPrefix(prefix, internship -> true, limit), limit);
+    }
+    
+    /**
+     * Returns up to limit internships visible to a student whose title or company name starts
+     * with the prefix (ignoring case)
+     */
+    public List<InternshipOpportunity> findInternshipsByPrefixForStudent(Student student, String prefix, int limit) {
+        Major major = student.getMajor();
+        int year = student.getYearOfStudy();
+        return appendCompanyMatches(eligibleTitlePrefixes.withPrefix(major, year, prefix, limit),
+            () -> eligibleCompanyPrefixes.withPrefix(major, year, prefix, limit), limit);
+    }
+    
+    /**
+     * Fills the title matches up to limit with company matches that are not already in them
+     */
+    private static List<InternshipOpportunity> appendCompanyMatches(List<InternshipOpportunity> matches,
+                                                                    Supplier<List<InternshipOpportunity>> companyMatches,
+                                                                    int limit) {
+        if (matches.size() < limit) {
+            Set<InternshipOpportunity> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            seen.addAll(matches);
+            for (InternshipOpportunity internship : companyMatches.get()) {
+                if (matches.size() < limit && seen.add(internship)) {
+                    matches.add(internship);
+                }
+            }
         }
-        
-        // Check level eligibility
-        return isEligibleForLevel(student, internship.getLevel());
+        return matches;
+    }
+    
+    /**
+     * Gets all internships of a company (name ignoring case), using the company index
+     */
+    public List<InternshipOpportunity> findInternshipsByCompany(String companyName) {
+        return companyPrefixes.get(companyName);
+    }
+    
+    /**
+     * Makes a representative's company known to company suggestions (call on registration)
+     */
+    public void indexCompany(CompanyRepresentative rep) {
+        repCompanyPrefixes.put(rep, rep.getCompanyName());
+    }
+    
+    /**
+     * Forgets a representative's company unless other representatives or postings use it
+     */
+    public void unindexCompany(CompanyRepresentative rep) {
+        repCompanyPrefixes.remove(rep);
+    }
+    
+    /**
+     * Checks if an internship is visible to a student
+     */
+    private boolean isVisibleToStudent(InternshipOpportunity internship, Student student) {
+        return internship.isVisible()
+            && internship.getStatus() == InternshipStatus.APPROVED
+            && internship.getPreferredMajor() == student.getMajor()
+            && isEligibleForLevel(student, internship.getLevel());
+    }
+    
+    /**
+     * Checks if an internship is accepting applications today, using the maintained set of
+     * internships within their application period instead of comparing dates
+     */
+    public boolean isAcceptingApplications(InternshipOpportunity internship) {
+        return internship.getStatus() == InternshipStatus.APPROVED
+            && internship.isVisible()
+            && internship.hasAvailableSlots()
+            && calendar.isOpen(internship);
+    }
+    
+    /**
+     * Returns the internships whose application period includes the date, by opening date
+     */
+    public List<InternshipOpportunity> findInternshipsOpenOn(LocalDate date) {
+        return calendar.openOn(date);
+    }
+    
+    /**
+     * Returns number of internships within their application period today
+     */
+    public int getOpenInternshipCount() {
+        return calendar.getOpenCount();
     }
     
     /**
@@ -136,6 +454,86 @@ public class InternshipController {
         }
     }
     
+    /**
+     * Returns all internships matching every given filter, in catalog order, using the bitmap
+     * indexes (no internship is examined that does not match)
+     * @param status Required status, or null for any
+     * @param major Required preferred major, or null for any
+     * @param level Required level, or null for any
+     */
+    public List<InternshipOpportunity> findInternships(InternshipStatus status, Major major, InternshipLevel level) {
+        return attributeIndex.query(status, major, level);
+    }
+    
+    /**
+     * Returns the live dashboard counters, shared with the controllers that maintain the
+     * application counts
+     */
+    DashboardCounters getCounters() {
+        return counters;
+    }
+    
+    /**
+     * Returns number of internships matching every given filter (null for any), from the bitmap
+     * indexes alone
+     */
+    public int countInternships(InternshipStatus status, Major major, InternshipLevel level) {
+        return attributeIndex.count(status, major, level);
+    }
+    
+    /**
+     * Returns all internships matching every given filter (null for any), alphabetically by title
+     */
+    public List<InternshipOpportunity> findInternshipsByTitle(InternshipStatus status, Major major, InternshipLevel level) {
+        return query(InternshipQuery.where(matching(status, major, level)).orderBy(InternshipSortKey.TITLE));
+    }
+    
+    /**
+     * Builds the condition for the given filters, skipping null ones
+     */
+    static InternshipQuery.Condition matching(InternshipStatus status, Major major, InternshipLevel level) {
+        List<InternshipQuery.Condition> conditions = new ArrayList<>();
+        if (status != null) {
+            conditions.add(InternshipQuery.status(status));
+        }
+        if (major != null) {
+            conditions.add(InternshipQuery.major(major));
+        }
+        if (level != null) {
+            conditions.add(InternshipQuery.level(level));
+        }
+        return InternshipQuery.and(conditions.toArray(new InternshipQuery.Condition[0]));
+    }
+    
+    /**
+     * Runs a query, choosing the most selective index and filtering the rest in one pass
+     */
+    public List<InternshipOpportunity> query(InternshipQuery query) {
+        return planner().plan(query).execute();
+    }
+    
+    /**
+     * Runs one page of a query (null cursor for the first page); only the rows up to the end of
+     * the page are produced, and the query's own offset and limit are ignored
+     */
+    public Page<InternshipOpportunity> queryPage(InternshipQuery query, String cursor, int pageSize) {
+        int size = Math.max(1, pageSize);
+        int offset = Page.offsetOf(cursor);
+        return Page.of(query(query.window(offset, size + 1)), offset, size);
+    }
+    
+    /**
+     * Describes how a query would be run: the chosen index, the alternatives considered, the
+     * residual filter and how results are ordered
+     */
+    public String explain(InternshipQuery query) {
+        return planner().plan(query).explain();
+    }
+    
+    private InternshipQueryPlanner planner() {
+        return new InternshipQueryPlanner(internships, attributeIndex, titleIndex, titlePrefixes, companyPrefixes, calendar);
+    }
+    
     /**
      * Filters internships by status
      */
@@ -180,19 +578,14 @@ public class InternshipController {
      * Sorts internships alphabetically by title
      */
     public List<InternshipOpportunity> sortByTitle(List<InternshipOpportunity> internships) {
-        return internships.stream()
-            .sorted((i1, i2) -> i1.getTitle().compareToIgnoreCase(i2.getTitle()))
-            .collect(Collectors.toList());
+        return titleIndex.sort(internships);
     }
     
     /**
      * Finds an internship by ID
      */
     public InternshipOpportunity findInternshipById(String opportunityId) {
-        return internships.stream()
-            .filter(i -> i.getOpportunityId().equals(opportunityId))
-            .findFirst()
-            .orElse(null);
+        return internshipsById.get(opportunityId);
     }
     
     /**
@@ -204,11 +597,19 @@ public class InternshipController {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Gets one page of the internships of a company representative (null cursor for the first page)
+     */
+    public Page<InternshipOpportunity> getInternshipsByRep(String repId, String cursor, int pageSize) {
+        return Page.slice(internships.stream().filter(i -> i.getAssignedRepresentativeId().equals(repId)),
+            cursor, pageSize);
+    }
+    
     /**
      * Generates a unique opportunity ID
      */
     private String generateOpportunityId() {
-        return String.format("INT%04d", nextOpportunityId++);
+        return String.format("INT%04d", opportunityIds.next());
     }
     
     /**
@@ -217,15 +618,86 @@ public class InternshipController {
     public boolean removeInternship(InternshipOpportunity internship) {
         boolean removed = internships.remove(internship);
         if (removed) {
-            saveInternshipsToFile(); // Auto-save to CSV
+            unindex(internship);
+            attributeIndex.remove(internship);
+            titleIndex.remove(internship);
+            textIndex.remove(internship);
+            titlePrefixes.remove(internship);
+            companyPrefixes.remove(internship);
+            eligibleViews.removed(internship);
+            eligibleTitlePrefixes.removed(internship);
+            eligibleCompanyPrefixes.removed(internship);
+            calendar.remove(internship);
+            counters.postingRemoved(internship);
+            csvRows.remove(internship);
+            internship.setChangeListener(null);
+            csvRows.buildIfNeeded(internships);
+            if (journal != null) {
+                journal.recordRemoval(internship);
+            } else if (flusher != null) {
+                flusher.markDirty(); // Written by the background flusher
+            } else {
+                saveAndWait(); // Auto-save to CSV
+            }
         }
         return removed;
     }
 
+    /**
+     * Removes an internship from the ID index, promoting a remaining internship with the same ID
+     */
+    private void unindex(InternshipOpportunity internship) {
+        String opportunityId = internship.getOpportunityId();
+        if (internshipsById.remove(opportunityId, internship)) {
+            for (InternshipOpportunity other : internships) {
+                if (other.getOpportunityId().equals(opportunityId)) {
+                    internshipsById.put(opportunityId, other);
+                    break;
+                }
+            }
+        }
+    }
+
     /**
      * Updates an internship (call this after modifying internship attributes)
      */
-    public void updateInternship() {
-        saveInternshipsToFile(); // Save changes to CSV
+    public void updateInternship(InternshipOpportunity internship) {
+        csvRows.buildIfNeeded(internships); // Once; afterwards each change renders only its own line
+        if (journal != null) {
+            journal.recordUpdate(internship); // Append change to journal
+        } else if (flusher != null) {
+            flusher.markDirty(); // Written by the background flusher
+        } else {
+            saveAndWait(); // Save changes to CSV
+        }
+    }
+
+    /**
+     * Saves internships to CSV file and waits until the file is durable, so a change is on disk
+     * once the call returns (saves from other threads meanwhile share the same write)
+     */
+    private void saveAndWait() {
+        try {
+            saveInternshipsToFile().join();
+        } catch (CompletionException e) {
+            // Already reported by the writer; the next save writes the latest state again
+        }
+    }
+
+    /**
+     * Flushes pending changes and stops background persistence (call on exit)
+     * @return true if every change has been saved
+     */
+    public boolean shutdown() {
+        calendar.close();
+        if (journal != null) {
+            journal.shutdown();
+        }
+        if (flusher != null) {
+            flusher.shutdown();
+            System.out.println("Write-behind " + flusher.getStats());
+            return flusher.getPendingSaveCount() == 0;
+        }
+        return true;
     }
 }
\ No newline at end of file
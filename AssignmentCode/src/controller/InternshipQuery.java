@@ -0,0 +1,411 @@
+package controller;
+
+import entity.domain.InternshipOpportunity;
+import entity.user.Student;
+import enums.InternshipLevel;
+import enums.InternshipSortKey;
+import enums.InternshipStatus;
+import enums.Major;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Describes an internship search: a condition built from attribute predicates with AND/OR/NOT,
+ * a sort key, and an offset and limit. Run it with {@link InternshipController#query(InternshipQuery)};
+ * {@link InternshipController#explain(InternshipQuery)} shows how it will be executed.
+ */
+public class InternshipQuery {
+
+    private final Condition condition;
+    private InternshipSortKey sortKey = InternshipSortKey.CATALOG;
+    private int offset;
+    private int limit = Integer.MAX_VALUE;
+
+    private InternshipQuery(Condition condition) {
+        this.condition = condition;
+    }
+
+    /**
+     * Starts a query for internships matching the condition
+     */
+    public static InternshipQuery where(Condition condition) {
+        return new InternshipQuery(condition);
+    }
+
+    /**
+     * Starts a query for all internships
+     */
+    public static InternshipQuery all() {
+        return new InternshipQuery(and());
+    }
+
+    /**
+     * Sets the order of the results (catalog order by default)
+     */
+    public InternshipQuery orderBy(InternshipSortKey sortKey) {
+        this.sortKey = sortKey;
+        return this;
+    }
+
+    /**
+     * Skips the first results
+     */
+    public InternshipQuery offset(int offset) {
+        this.offset = Math.max(0, offset);
+        return this;
+    }
+
+    /**
+     * Limits the number of results
+     */
+    public InternshipQuery limit(int limit) {
+        this.limit = Math.max(0, limit);
+        return this;
+    }
+
+    /**
+     * Returns a copy of this query reading the given window of results
+     */
+    InternshipQuery window(int offset, int limit) {
+        return new InternshipQuery(condition).orderBy(sortKey).offset(offset).limit(limit);
+    }
+
+    Condition getCondition() {
+        return condition;
+    }
+
+    InternshipSortKey getSortKey() {
+        return sortKey;
+    }
+
+    int getOffset() {
+        return offset;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "WHERE " + condition + " ORDER BY " + sortKey
+            + (offset > 0 ? " OFFSET " + offset : "")
+            + (limit < Integer.MAX_VALUE ? " LIMIT " + limit : "");
+    }
+
+    /**
+     * Internship has the status
+     */
+    public static Condition status(InternshipStatus status) {
+        return new StatusIs(status);
+    }
+
+    /**
+     * Internship prefers the major
+     */
+    public static Condition major(Major major) {
+        return new MajorIs(major);
+    }
+
+    /**
+     * Internship has the level
+     */
+    public static Condition level(InternshipLevel level) {
+        return new LevelIs(level);
+    }
+
+    /**
+     * Internship visibility is as given
+     */
+    public static Condition visible(boolean visible) {
+        return new VisibleIs(visible);
+    }
+
+    /**
+     * Internship belongs to the company (name ignoring case)
+     */
+    public static Condition company(String companyName) {
+        return new CompanyIs(companyName);
+    }
+
+    /**
+     * Internship title starts with the prefix (ignoring case)
+     */
+    public static Condition titleStartsWith(String prefix) {
+        return new TitleStartsWith(prefix);
+    }
+
+    /**
+     * Internship's application period includes the date
+     */
+    public static Condition openOn(LocalDate date) {
+        return new OpenOn(date);
+    }
+
+    /**
+     * Internship is one a student may browse: visible, approved, for their major and a level
+     * their year of study allows
+     */
+    public static Condition availableTo(Student student) {
+        return availableTo(student.getMajor(), student.getYearOfStudy() >= 3);
+    }
+
+    /**
+     * Internship is one a student of the major may browse (seniors are in year 3 and above)
+     */
+    static Condition availableTo(Major major, boolean senior) {
+        Condition browsable = and(status(InternshipStatus.APPROVED), major(major), visible(true));
+        return senior ? browsable : and(browsable, level(InternshipLevel.BASIC));
+    }
+
+    /**
+     * Every condition holds (true if there are none)
+     */
+    public static Condition and(Condition... conditions) {
+        return new And(Arrays.asList(conditions));
+    }
+
+    /**
+     * At least one condition holds
+     */
+    public static Condition or(Condition... conditions) {
+        return new Or(Arrays.asList(conditions));
+    }
+
+    /**
+     * The condition does not hold
+     */
+    public static Condition not(Condition condition) {
+        return new Not(condition);
+    }
+
+    /**
+     * A predicate over internships; built with the static factories of {@link InternshipQuery}
+     */
+    public abstract static class Condition {
+
+        Condition() {
+        }
+
+        abstract boolean test(InternshipOpportunity internship);
+
+        /**
+         * Returns the conditions that must all hold (this condition alone unless it is an AND)
+         */
+        List<Condition> conjuncts() {
+            return Collections.singletonList(this);
+        }
+    }
+
+    static final class StatusIs extends Condition {
+        final InternshipStatus status;
+
+        StatusIs(InternshipStatus status) {
+            this.status = status;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            return internship.getStatus() == status;
+        }
+
+        @Override
+        public String toString() {
+            return "status = " + status;
+        }
+    }
+
+    static final class MajorIs extends Condition {
+        final Major major;
+
+        MajorIs(Major major) {
+            this.major = major;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            return internship.getPreferredMajor() == major;
+        }
+
+        @Override
+        public String toString() {
+            return "major = " + major;
+        }
+    }
+
+    static final class LevelIs extends Condition {
+        final InternshipLevel level;
+
+        LevelIs(InternshipLevel level) {
+            this.level = level;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            return internship.getLevel() == level;
+        }
+
+        @Override
+        public String toString() {
+            return "level = " + level;
+        }
+    }
+
+    static final class VisibleIs extends Condition {
+        final boolean visible;
+
+        VisibleIs(boolean visible) {
+            this.visible = visible;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            return internship.isVisible() == visible;
+        }
+
+        @Override
+        public String toString() {
+            return "visible = " + visible;
+        }
+    }
+
+    static final class CompanyIs extends Condition {
+        final String companyName;
+
+        CompanyIs(String companyName) {
+            this.companyName = companyName;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            return internship.getCompanyName() != null && internship.getCompanyName().equalsIgnoreCase(companyName);
+        }
+
+        @Override
+        public String toString() {
+            return "company = '" + companyName + "'";
+        }
+    }
+
+    static final class TitleStartsWith extends Condition {
+        final String prefix;
+
+        TitleStartsWith(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            String title = internship.getTitle();
+            return title != null && title.regionMatches(true, 0, prefix, 0, prefix.length());
+        }
+
+        @Override
+        public String toString() {
+            return "title starts with '" + prefix + "'";
+        }
+    }
+
+    static final class OpenOn extends Condition {
+        final LocalDate date;
+
+        OpenOn(LocalDate date) {
+            this.date = date;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            return internship.getOpeningDate() != null && internship.getClosingDate() != null
+                && !date.isBefore(internship.getOpeningDate()) && !date.isAfter(internship.getClosingDate());
+        }
+
+        @Override
+        public String toString() {
+            return "open on " + date;
+        }
+    }
+
+    static final class And extends Condition {
+        final List<Condition> conditions;
+
+        And(List<Condition> conditions) {
+            this.conditions = conditions;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            for (Condition condition : conditions) {
+                if (!condition.test(internship)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        List<Condition> conjuncts() {
+            List<Condition> flattened = new ArrayList<>();
+            for (Condition condition : conditions) {
+                flattened.addAll(condition.conjuncts());
+            }
+            return flattened;
+        }
+
+        @Override
+        public String toString() {
+            return conditions.isEmpty() ? "true" : describe(conditions, " AND ");
+        }
+    }
+
+    static final class Or extends Condition {
+        final List<Condition> conditions;
+
+        Or(List<Condition> conditions) {
+            this.conditions = conditions;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            for (Condition condition : conditions) {
+                if (condition.test(internship)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return conditions.isEmpty() ? "false" : describe(conditions, " OR ");
+        }
+    }
+
+    static final class Not extends Condition {
+        final Condition condition;
+
+        Not(Condition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        boolean test(InternshipOpportunity internship) {
+            return !condition.test(internship);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + describe(Collections.singletonList(condition), "");
+        }
+    }
+
+    private static String describe(List<Condition> conditions, String separator) {
+        return conditions.stream()
+            .map(c -> c instanceof And || c instanceof Or ? "(" + c + ")" : c.toString())
+            .collect(Collectors.joining(separator));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,328 @@
+package controller;
+
+import controller.InternshipQuery.And;
+import controller.InternshipQuery.CompanyIs;
+import controller.InternshipQuery.Condition;
+import controller.InternshipQuery.LevelIs;
+import controller.InternshipQuery.MajorIs;
+import controller.InternshipQuery.Not;
+import controller.InternshipQuery.OpenOn;
+import controller.InternshipQuery.Or;
+import controller.InternshipQuery.StatusIs;
+import controller.InternshipQuery.TitleStartsWith;
+import entity.domain.InternshipOpportunity;
+import enums.InternshipSortKey;
+import util.InternshipIndex;
+import util.OpeningCalendar;
+import util.PrefixIndex;
+import util.TitleIndex;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Plans and runs internship queries over the internship indexes.
+ * <p>
+ * The top-level AND of a query is split into conjuncts. Conjuncts over status, major and level,
+ * including AND/OR/NOT combinations of them, are pushed down into one bitmap expression over
+ * {@link InternshipIndex}. That bitmap, an exact company, a title prefix and an application date
+ * are the candidate access paths; the cheapest, by estimated rows weighted by how expensive each
+ * row is to produce, drives the query, and every other conjunct is fused into a single residual
+ * filter applied while the driver's rows are materialized. Ordering uses the title index or the catalog order of the bitmap rows where
+ * possible, so limits can stop early instead of sorting.
+ */
+class InternshipQueryPlanner {
+
+    private static final int SELECTIVE_RESULT_RATIO = 16; // Sort matches when fewer than 1/16 of all internships
+    // Relative cost per candidate row: bitmap rows and scans are sequential, index lookups are not
+    // and their rows must be put back into catalog order
+    private static final int SEQUENTIAL_ROW_COST = 1;
+    private static final int LOOKUP_ROW_COST = 4;
+    private static final int INTERVAL_ROW_COST = 8;
+
+    private final List<InternshipOpportunity> catalog;
+    private final InternshipIndex attributeIndex;
+    private final TitleIndex titleIndex;
+    private final PrefixIndex<InternshipOpportunity> titlePrefixes;
+    private final PrefixIndex<InternshipOpportunity> companyPrefixes;
+    private final OpeningCalendar calendar;
+
+    InternshipQueryPlanner(List<InternshipOpportunity> catalog, InternshipIndex attributeIndex, TitleIndex titleIndex,
+                           PrefixIndex<InternshipOpportunity> titlePrefixes,
+                           PrefixIndex<InternshipOpportunity> companyPrefixes, OpeningCalendar calendar) {
+        this.catalog = catalog;
+        this.attributeIndex = attributeIndex;
+        this.titleIndex = titleIndex;
+        this.titlePrefixes = titlePrefixes;
+        this.companyPrefixes = companyPrefixes;
+        this.calendar = calendar;
+    }
+
+    /**
+     * Chooses how to run a query
+     */
+    Plan plan(InternshipQuery query) {
+        List<Condition> conjuncts = query.getCondition().conjuncts();
+        int total = attributeIndex.size();
+        List<Access> options = new ArrayList<>();
+
+        // Push every status/major/level conjunct down into one bitmap
+        List<Condition> bitmapConditions = new ArrayList<>();
+        BitSet bitmap = null;
+        for (Condition condition : conjuncts) {
+            if (isBitmapCondition(condition)) {
+                BitSet rows = bitmapOf(condition);
+                bitmap = bitmap == null ? rows : and(bitmap, rows);
+                bitmapConditions.add(condition);
+            }
+        }
+        if (bitmap != null) {
+            BitSet rows = bitmap;
+            options.add(new Access(AccessKind.BITMAP, "bitmap index on " + bitmapConditions, rows.cardinality(),
+                SEQUENTIAL_ROW_COST, bitmapConditions, filter -> attributeIndex.rows(rows, filter::test, 0, Integer.MAX_VALUE)).withRows(rows));
+        }
+
+        // Other indexed conjuncts
+        for (Condition condition : conjuncts) {
+            if (condition instanceof CompanyIs) {
+                List<InternshipOpportunity> matches = companyPrefixes.get(((CompanyIs) condition).companyName);
+                options.add(new Access(AccessKind.INDEX, "company index for " + condition, matches.size(),
+                    LOOKUP_ROW_COST, List.of(condition), filter -> filter(matches, filter)));
+            } else if (condition instanceof TitleStartsWith) {
+                String prefix = ((TitleStartsWith) condition).prefix;
+                options.add(new Access(AccessKind.INDEX, "title prefix index for " + condition, titlePrefixes.count(prefix),
+                    LOOKUP_ROW_COST, List.of(condition), filter -> titlePrefixes.withPrefix(prefix, filter::test, Integer.MAX_VALUE)));
+            } else if (condition instanceof OpenOn) {
+                LocalDate date = ((OpenOn) condition).date;
+                boolean today = date.equals(calendar.getToday());
+                options.add(new Access(AccessKind.INDEX, "interval index for " + condition
+                    + (today ? "" : " (estimate is a guess)"), today ? calendar.getOpenCount() : total / 4,
+                    INTERVAL_ROW_COST, List.of(condition), filter -> filter(calendar.openOn(date), filter)));
+            }
+        }
+        options.add(new Access(AccessKind.SCAN, "full scan", total, SEQUENTIAL_ROW_COST, List.of(), filter -> filter(catalog, filter)));
+
+        Access driver = options.get(0);
+        for (Access option : options) {
+            if (option.cost < driver.cost) {
+                driver = option;
+            }
+        }
+        List<Condition> residual = new ArrayList<>(conjuncts);
+        residual.removeAll(driver.covered);
+        return new Plan(query, driver, options, residual, total);
+    }
+
+    /**
+     * Returns whether a condition can be answered from the status/major/level bitmaps alone
+     */
+    private static boolean isBitmapCondition(Condition condition) {
+        if (condition instanceof StatusIs || condition instanceof MajorIs || condition instanceof LevelIs) {
+            return true;
+        }
+        if (condition instanceof And) {
+            return ((And) condition).conditions.stream().allMatch(InternshipQueryPlanner::isBitmapCondition);
+        }
+        if (condition instanceof Or) {
+            return ((Or) condition).conditions.stream().allMatch(InternshipQueryPlanner::isBitmapCondition);
+        }
+        return condition instanceof Not && isBitmapCondition(((Not) condition).condition);
+    }
+
+    /**
+     * Evaluates a bitmap condition into the set of matching rows
+     */
+    private BitSet bitmapOf(Condition condition) {
+        if (condition instanceof StatusIs) {
+            return attributeIndex.bitmap(((StatusIs) condition).status, null, null);
+        }
+        if (condition instanceof MajorIs) {
+            return attributeIndex.bitmap(null, ((MajorIs) condition).major, null);
+        }
+        if (condition instanceof LevelIs) {
+            return attributeIndex.bitmap(null, null, ((LevelIs) condition).level);
+        }
+        if (condition instanceof Not) {
+            BitSet rows = attributeIndex.bitmap(null, null, null);
+            rows.andNot(bitmapOf(((Not) condition).condition));
+            return rows;
+        }
+        boolean isAnd = condition instanceof And;
+        List<Condition> parts = isAnd ? ((And) condition).conditions : ((Or) condition).conditions;
+        BitSet rows = isAnd ? attributeIndex.bitmap(null, null, null) : new BitSet();
+        for (Condition part : parts) {
+            if (isAnd) {
+                rows.and(bitmapOf(part));
+            } else {
+                rows.or(bitmapOf(part));
+            }
+        }
+        return rows;
+    }
+
+    private static BitSet and(BitSet a, BitSet b) {
+        a.and(b);
+        return a;
+    }
+
+    private static List<InternshipOpportunity> filter(List<InternshipOpportunity> internships, Condition filter) {
+        List<InternshipOpportunity> matches = new ArrayList<>();
+        for (InternshipOpportunity internship : internships) {
+            if (filter.test(internship)) {
+                matches.add(internship);
+            }
+        }
+        return matches;
+    }
+
+    private enum AccessKind { BITMAP, INDEX, SCAN }
+
+    /**
+     * One way of producing candidate rows
+     */
+    private static final class Access {
+        private final AccessKind kind;
+        private final String description;
+        private final int estimate;
+        private final long cost;
+        private final List<Condition> covered; // Conjuncts fully answered by this access path
+        private final Function<Condition, List<InternshipOpportunity>> fetch; // Rows passing a residual filter
+        private BitSet rows; // Matching rows, for the bitmap access path
+
+        Access(AccessKind kind, String description, int estimate, int rowCost, List<Condition> covered,
+               Function<Condition, List<InternshipOpportunity>> fetch) {
+            this.kind = kind;
+            this.description = description;
+            this.estimate = estimate;
+            this.cost = (long) estimate * rowCost;
+            this.covered = covered;
+            this.fetch = fetch;
+        }
+
+        Access withRows(BitSet rows) {
+            this.rows = rows;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return description + " (~" + estimate + " rows, cost " + cost + ")";
+        }
+    }
+
+    /**
+     * A chosen way of running a query
+     */
+    final class Plan {
+        private final InternshipQuery query;
+        private final Access driver;
+        private final List<Access> options;
+        private final Condition residual;
+        private final List<Condition> residualConditions;
+        private final int total;
+
+        private Plan(InternshipQuery query, Access driver, List<Access> options, List<Condition> residual, int total) {
+            this.query = query;
+            this.driver = driver;
+            this.options = options;
+            this.residual = new And(residual);
+            this.residualConditions = residual;
+            this.total = total;
+        }
+
+        /**
+         * Runs the plan
+         */
+        List<InternshipOpportunity> execute() {
+            int offset = query.getOffset();
+            int limit = query.getLimit();
+            int wanted = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+
+            switch (query.getSortKey()) {
+                case CATALOG:
+                    if (driver.kind == AccessKind.BITMAP) {
+                        return attributeIndex.rows(driver.rows, residual::test, offset, limit);
+                    }
+                    return slice(inCatalogOrder(driver.fetch.apply(residual)), offset, limit);
+                case TITLE:
+                    if (titleWalk()) {
+                        Condition all = query.getCondition();
+                        return slice(titleIndex.inTitleOrder(all::test, wanted), offset, limit);
+                    }
+                    return slice(titleIndex.sort(driver.fetch.apply(residual)), offset, limit);
+                default:
+                    Function<InternshipOpportunity, LocalDate> date = query.getSortKey() == InternshipSortKey.OPENING_DATE
+                        ? InternshipOpportunity::getOpeningDate : InternshipOpportunity::getClosingDate;
+                    List<InternshipOpportunity> matches = inCatalogOrder(driver.fetch.apply(residual));
+                    matches.sort(Comparator.comparing(date, Comparator.nullsLast(Comparator.naturalOrder())));
+                    return slice(matches, offset, limit);
+            }
+        }
+
+        /**
+         * Describes the chosen plan and the access paths considered
+         */
+        String explain() {
+            StringBuilder plan = new StringBuilder();
+            plan.append("Query: ").append(query).append(System.lineSeparator());
+            plan.append("Access: ").append(driver).append(System.lineSeparator());
+            for (Access option : options) {
+                if (option != driver) {
+                    plan.append("  considered: ").append(option).append(System.lineSeparator());
+                }
+            }
+            plan.append("Residual filter (one fused pass): ")
+                .append(residualConditions.isEmpty() ? "none" : residualConditions.stream()
+                    .map(Condition::toString).collect(Collectors.joining(" AND ")))
+                .append(System.lineSeparator());
+            plan.append("Order: ").append(describeOrder());
+            if (query.getOffset() > 0 || query.getLimit() < Integer.MAX_VALUE) {
+                plan.append(System.lineSeparator()).append("Offset ").append(query.getOffset())
+                    .append(", limit ").append(query.getLimit() == Integer.MAX_VALUE ? "none" : query.getLimit());
+            }
+            return plan.toString();
+        }
+
+        private String describeOrder() {
+            switch (query.getSortKey()) {
+                case CATALOG:
+                    return driver.kind == AccessKind.BITMAP ? "catalog order of bitmap rows (no sort, stops at the limit)"
+                        : driver.kind == AccessKind.SCAN ? "catalog order of the scan (no sort)"
+                        : "sort candidates into catalog order";
+                case TITLE:
+                    return titleWalk() ? "walk the title index testing the whole condition (no sort, stops at the limit)"
+                        : "sort candidates on cached title keys";
+                default:
+                    return "sort candidates by " + query.getSortKey().getDisplayName().toLowerCase();
+            }
+        }
+
+        /**
+         * Broad results are cheaper to take from the title index in order than to sort
+         */
+        private boolean titleWalk() {
+            return (long) driver.estimate * SELECTIVE_RESULT_RATIO >= total;
+        }
+
+        private List<InternshipOpportunity> inCatalogOrder(List<InternshipOpportunity> matches) {
+            if (driver.kind != AccessKind.BITMAP && driver.kind != AccessKind.SCAN) {
+                attributeIndex.sortByRow(matches);
+            }
+            return matches;
+        }
+    }
+
+    private static List<InternshipOpportunity> slice(List<InternshipOpportunity> matches, int offset, int limit) {
+        if (offset == 0 && limit >= matches.size()) {
+            return matches;
+        }
+        int from = Math.min(offset, matches.size());
+        int to = (int) Math.min(matches.size(), (long) from + limit);
+        return new ArrayList<>(matches.subList(from, to));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * One page of a listing, with opaque cursors for the pages before and after it.
+ * <p>
+ * Pass null as the cursor to get the first page. A cursor records a position in the listing, so
+ * postings added or removed before it shift the following pages; an unreadable cursor starts over
+ * from the first page.
+ */
+public final class Page<T> {
+
+    private static final String CURSOR_PREFIX = "p";
+
+    private final List<T> items;
+    private final int offset;
+    private final int pageSize;
+    private final boolean hasNext;
+
+    private Page(List<T> items, int offset, int pageSize, boolean hasNext) {
+        this.items = Collections.unmodifiableList(items);
+        this.offset = offset;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Wraps up to pageSize + 1 items read from the cursor's position; an extra item means there is
+     * a next page
+     */
+    static <T> Page<T> of(List<T> window, int offset, int pageSize) {
+        boolean hasNext = window.size() > pageSize;
+        List<T> items = hasNext ? new ArrayList<>(window.subList(0, pageSize)) : window;
+        return new Page<>(items, offset, pageSize, hasNext);
+    }
+
+    /**
+     * Returns the page of a list at the cursor, copying only that page
+     */
+    static <T> Page<T> slice(List<T> all, String cursor, int pageSize) {
+        int size = Math.max(1, pageSize);
+        int from = Math.min(offsetOf(cursor), all.size());
+        int to = (int) Math.min(all.size(), (long) from + size + 1);
+        return of(new ArrayList<>(all.subList(from, to)), from, size);
+    }
+
+    /**
+     * Returns the page of a stream at the cursor, reading no further than the end of the page
+     */
+    static <T> Page<T> slice(Stream<T> all, String cursor, int pageSize) {
+        int size = Math.max(1, pageSize);
+        int offset = offsetOf(cursor);
+        List<T> window = new ArrayList<>();
+        all.skip(offset).limit(size + 1L).forEach(window::add);
+        return of(window, offset, size);
+    }
+
+    /**
+     * Returns the position a cursor points to (0 for null or unreadable cursors)
+     */
+    static int offsetOf(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                return 0;
+            }
+            return Math.max(0, Integer.parseInt(decoded.substring(CURSOR_PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    private static String cursorAt(int offset) {
+        String position = CURSOR_PREFIX + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * Returns position of the first item in the whole listing, counting from 1
+     */
+    public int getFirstPosition() {
+        return offset + 1;
+    }
+
+    /**
+     * Returns the page number, counting from 1
+     */
+    public int getPageNumber() {
+        return offset / pageSize + 1;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+
+    /**
+     * Returns the cursor of the following page, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return hasNext ? cursorAt(offset + items.size()) : null;
+    }
+
+    /**
+     * Returns the cursor of the preceding page, or null if this is the first page
+     */
+    public String getPreviousCursor() {
+        return hasPrevious() ? cursorAt(Math.max(0, offset - pageSize)) : null;
+    }
+}
\ No newline at end of file
@@ -1,142 +1,302 @@
 package controller;
 
 import entity.user.Student;
+import entity.domain.ApplicationChangeListener;
 import entity.domain.InternshipOpportunity;
 import entity.domain.InternshipApplication;
 import entity.domain.WithdrawalRequest;
 import enums.ApplicationStatus;
 import enums.RequestStatus;
+import util.ApplicationIndex;
+import util.ApplicationStore;
+import util.DashboardCounters;
+import util.IdAllocator;
+import util.StripedLocks;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Handles student-specific operations
+ * <p>
+ * Workflows that change applications or withdrawal requests (applying, accepting, withdrawing, and
+ * the company rep and staff decisions) lock the stripes of the internship and the student involved,
+ * so work on different postings runs in parallel; accepting a placement also locks the internships
+ * of the student's other applications, which it withdraws. Lookups and listings take no locks.
  */
 public class StudentController {
     
     private List<InternshipApplication> applications;
     private List<WithdrawalRequest> withdrawalRequests;
     private InternshipController internshipController;
-    private int nextApplicationId;
-    private int nextWithdrawalId;
+    private final IdAllocator applicationIds = IdAllocator.forFile(APPLICATION_ID_PATH);
+    private final IdAllocator withdrawalIds = IdAllocator.forFile(WITHDRAWAL_ID_PATH);
+    private ApplicationStore applicationStore;
+    private final ApplicationIndex applicationIndex = new ApplicationIndex(); // By ID, student, internship and pair
+    private final StripedLocks workflowLocks = new StripedLocks(WORKFLOW_LOCK_STRIPES);
+    private final DashboardCounters counters;
+    private final ApplicationChangeListener changeListener = new ApplicationChangeListener() {
+        @Override
+        public void applicationChanged(InternshipApplication application, ApplicationStatus previousStatus,
+                                       boolean wasPlacementConfirmed) {
+            applicationIndex.statusChanged(application, previousStatus);
+            counters.applicationChanged(application, previousStatus);
+        }
+        
+        @Override
+        public void withdrawalRequestChanged(WithdrawalRequest request, RequestStatus previousStatus) {
+            counters.withdrawalRequestChanged(request, previousStatus);
+        }
+    };
+    private static final String APPLICATION_FILE_PATH = "assets/application_list.log";
+    private static final String WITHDRAWAL_FILE_PATH = "assets/withdrawal_request_list.log";
+    private static final String APPLICATION_ID_PATH = "assets/application_ids.seq";
+    private static final String WITHDRAWAL_ID_PATH = "assets/withdrawal_ids.seq";
+    private static final int WORKFLOW_LOCK_STRIPES = 64;
     
     public StudentController(InternshipController internshipController) {
-        this.applications = new ArrayList<>();
-        this.withdrawalRequests = new ArrayList<>();
+        this.applications = Collections.synchronizedList(new ArrayList<>());
+        this.withdrawalRequests = Collections.synchronizedList(new ArrayList<>());
         this.internshipController = internshipController;
-        this.nextApplicationId = 1;
-        this.nextWithdrawalId = 1;
+        this.applicationStore = new ApplicationStore(APPLICATION_FILE_PATH, WITHDRAWAL_FILE_PATH);
+        this.counters = internshipController.getCounters();
     }
     
     /**
-     * Student applies for an internship
+     * Loads applications and withdrawal requests from file and links them to students and internships
      */
-    public boolean applyForInternship(Student student, InternshipOpportunity internship) {
-        // Check if student can apply (max 3 applications)
-        if (!student.canApply()) {
-            System.out.println("You have reached the maximum number of applications (3) or already accepted an internship.");
-            return false;
+    public void loadApplicationsFromFile(List<Student> students) {
+        applications = Collections.synchronizedList(applicationStore.loadApplications());
+        withdrawalRequests = Collections.synchronizedList(applicationStore.loadWithdrawalRequests());
+        linkApplications(students);
+    }
+    
+    /**
+     * Uses applications and withdrawal requests restored from a snapshot instead of reading the files
+     */
+    public void loadApplicationsFromSnapshot(List<InternshipApplication> applications,
+                                             List<WithdrawalRequest> withdrawalRequests,
+                                             List<Student> students) {
+        this.applications = Collections.synchronizedList(new ArrayList<>(applications));
+        this.withdrawalRequests = Collections.synchronizedList(new ArrayList<>(withdrawalRequests));
+        applicationStore.restore(applications, withdrawalRequests);
+        linkApplications(students);
+    }
+    
+    /**
+     * Links loaded applications to their students and internships, subscribes to their changes,
+     * restores the ID counters and checks every student's maintained application counts
+     */
+    private void linkApplications(List<Student> students) {
+        Map<String, Student> studentsById = new HashMap<>();
+        for (Student student : students) {
+            studentsById.put(student.getUserId(), student);
         }
         
-        // Check if student already applied for this internship
-        if (hasAppliedFor(student, internship)) {
-            System.out.println("You have already applied for this internship.");
-            return false;
+        for (InternshipApplication application : applications) {
+            application.addChangeListener(changeListener);
+            InternshipOpportunity internship = internshipController.findInternshipById(application.getOpportunityId());
+            if (internship != null) {
+                internship.addApplication(application);
+            }
+            
+            Student student = studentsById.get(application.getStudentId());
+            if (student != null) {
+                student.restoreApplication(application);
+                if (application.isPlacementConfirmed()) {
+                    student.setAcceptedInternship(internship);
+                }
+            }
         }
         
-        // Check eligibility
-        if (!internshipController.isEligibleForLevel(student, internship.getLevel())) {
-            System.out.println("You are not eligible for this internship level. Year 1-2 can only apply for BASIC level.");
-            return false;
+        for (WithdrawalRequest request : withdrawalRequests) {
+            request.setChangeListener(changeListener);
         }
-        
-        // Check if internship is accepting applications
-        if (!internship.isAcceptingApplications()) {
-            System.out.println("This internship is not currently accepting applications.");
-            return false;
+        for (Student student : students) {
+            if (!student.verifyApplicationCounts()) {
+                System.err.println("Application counts of student " + student.getUserId()
+                    + " do not match their applications.");
+            }
         }
+        applicationIndex.rebuild(applications, withdrawalRequests);
+        counters.rebuildApplications(applications, withdrawalRequests);
         
-        // Check major match
-        if (internship.getPreferredMajor() != student.getMajor()) {
-            System.out.println("This internship is for " + internship.getPreferredMajor() + " major only.");
-            return false;
+        // Continue numbering after the highest stored IDs
+        applicationIds.advancePast(applicationStore.getMaxApplicationNumber("APP"));
+        withdrawalIds.advancePast(applicationStore.getMaxWithdrawalNumber("WR"));
+    }
+    
+    /**
+     * Locks the internship and student of a workflow (either may be null); unlock in a finally block
+     */
+    StripedLocks.Held lockWorkflow(String opportunityId, String studentId) {
+        return workflowLocks.lock(opportunityId, studentId);
+    }
+    
+    /**
+     * Saves an application after its status has been changed
+     */
+    public void saveApplication(InternshipApplication application) {
+        applicationStore.stage(application);
+        applicationStore.commit();
+    }
+    
+    /**
+     * Saves a withdrawal request after its status has been changed
+     */
+    public void saveWithdrawalRequest(WithdrawalRequest request) {
+        applicationStore.stage(request);
+        applicationStore.commit();
+    }
+    
+    /**
+     * Writes pending changes and closes the application files (call on exit)
+     */
+    public void shutdown() {
+        applicationStore.close();
+    }
+    
+    /**
+     * Student applies for an internship
+     */
+    public boolean applyForInternship(Student student, InternshipOpportunity internship) {
+        StripedLocks.Held held = lockWorkflow(internship.getOpportunityId(), student.getUserId());
+        try {
+            // Check if student can apply (max 3 applications)
+            if (!student.canApply()) {
+                System.out.println("You have reached the maximum number of applications (3) or already accepted an internship.");
+                return false;
+            }
+            
+            // Check if student already applied for this internship
+            if (hasAppliedFor(student, internship)) {
+                System.out.println("You have already applied for this internship.");
+                return false;
+            }
+            
+            // Check eligibility
+            if (!internshipController.isEligibleForLevel(student, internship.getLevel())) {
+                System.out.println("You are not eligible for this internship level. Year 1-2 can only apply for BASIC level.");
+                return false;
+            }
+            
+            // Check if internship is accepting applications
+            if (!internshipController.isAcceptingApplications(internship)) {
+                System.out.println("This internship is not currently accepting applications.");
+                return false;
+            }
+            
+            // Check major match
+            if (internship.getPreferredMajor() != student.getMajor()) {
+                System.out.println("This internship is for " + internship.getPreferredMajor() + " major only.");
+                return false;
+            }
+            
+            // Create application
+            String applicationId = generateApplicationId();
+            InternshipApplication application = new InternshipApplication(
+                applicationId, student.getUserId(), internship.getOpportunityId()
+            );
+            
+            application.addChangeListener(changeListener);
+            applications.add(application);
+            applicationIndex.add(application);
+            counters.applicationAdded(application);
+            student.addApplication(application);
+            internship.addApplication(application);
+            saveApplication(application);
+            
+            System.out.println("Application submitted successfully!");
+            return true;
+        } finally {
+            held.unlock();
         }
-        
-        // Create application
-        String applicationId = generateApplicationId();
-        InternshipApplication application = new InternshipApplication(
-            applicationId, student.getUserId(), internship.getOpportunityId()
-        );
-        
-        applications.add(application);
-        student.addApplication(application);
-        internship.addApplication(application);
-        
-        System.out.println("Application submitted successfully!");
-        return true;
     }
     
     /**
-     * Checks if student has already applied for an internship
+     * Checks if student has already applied for an internship (and not withdrawn)
      */
     private boolean hasAppliedFor(Student student, InternshipOpportunity internship) {
-        return applications.stream()
-            .anyMatch(app -> app.getStudentId().equals(student.getUserId()) 
-                          && app.getOpportunityId().equals(internship.getOpportunityId())
-                          && app.getApplicationStatus() != ApplicationStatus.WITHDRAWN);
+        return applicationIndex.hasActiveApplication(student.getUserId(), internship.getOpportunityId());
     }
     
     /**
      * Student accepts an internship placement
      */
     public boolean acceptPlacement(Student student, InternshipApplication application) {
-        // Verify application belongs to student
-        if (!application.getStudentId().equals(student.getUserId())) {
-            System.out.println("This application does not belong to you.");
-            return false;
-        }
-        
-        // Check if application is successful
-        if (application.getApplicationStatus() != ApplicationStatus.SUCCESSFUL) {
-            System.out.println("This application has not been approved yet.");
-            return false;
-        }
-        
-        // Check if already confirmed
-        if (application.isPlacementConfirmed()) {
-            System.out.println("You have already accepted this placement.");
-            return false;
-        }
-
-        // Find internship and check if slots are still available
-        InternshipOpportunity internship = internshipController.findInternshipById(application.getOpportunityId());
-        if (internship == null) {
-            System.out.println("Internship not found.");
-            return false;
-        }
+        StripedLocks.Held held = lockPlacement(student, application);
+        try {
+            // Verify application belongs to student
+            if (!application.getStudentId().equals(student.getUserId())) {
+                System.out.println("This application does not belong to you.");
+                return false;
+            }
+            
+            // Check if application is successful
+            if (application.getApplicationStatus() != ApplicationStatus.SUCCESSFUL) {
+                System.out.println("This application has not been approved yet.");
+                return false;
+            }
+            
+            // Check if already confirmed
+            if (application.isPlacementConfirmed()) {
+                System.out.println("You have already accepted this placement.");
+                return false;
+            }
 
-        // Check if slots are still available (important for race conditions)
-        if (!internship.hasAvailableSlots()) {
-            System.out.println("Sorry, all slots for this internship have been filled.");
-            System.out.println("Another student has already accepted this position.");
-            return false;
-        }
+            // Find internship and check if slots are still available
+            InternshipOpportunity internship = internshipController.findInternshipById(application.getOpportunityId());
+            if (internship == null) {
+                System.out.println("Internship not found.");
+                return false;
+            }
 
-        // Confirm placement
-        application.confirmPlacement();
+            // Reserve a slot atomically so concurrent acceptances cannot overbook
+            if (!internship.reserveSlot()) {
+                System.out.println("Sorry, all slots for this internship have been filled.");
+                System.out.println("Another student has already accepted this position.");
+                return false;
+            }
 
-        // Update slots
-        internship.incrementFilledSlots();
-        student.setAcceptedInternship(internship);
-        internshipController.updateInternship(); // Save changes to CSV
+            // Confirm placement
+            application.confirmPlacement();
+            applicationStore.stage(application);
+            student.setAcceptedInternship(internship);
+            internshipController.updateInternship(internship); // Save changes to CSV
 
-        // Withdraw all other applications
-        withdrawOtherApplications(student, application);
-        
-        System.out.println("Placement accepted successfully! All other applications have been withdrawn.");
-        return true;
+            // Withdraw all other applications
+            withdrawOtherApplications(student, application);
+            applicationStore.commit();
+            
+            System.out.println("Placement accepted successfully! All other applications have been withdrawn.");
+            return true;
+        } finally {
+            held.unlock();
+        }
+    }
+    
+    /**
+     * Locks the student and the internships of the accepted application and of every other
+     * application of the student, since accepting withdraws them; unlock in a finally block
+     */
+    private StripedLocks.Held lockPlacement(Student student, InternshipApplication application) {
+        while (true) {
+            List<InternshipApplication> others = student.getApplications();
+            String[] keys = new String[others.size() + 2];
+            keys[0] = application.getOpportunityId();
+            keys[1] = student.getUserId();
+            for (int i = 0; i < others.size(); i++) {
+                keys[i + 2] = others.get(i).getOpportunityId();
+            }
+            StripedLocks.Held held = workflowLocks.lock(keys);
+            if (student.getApplications().equals(others)) {
+                return held; // Applying needs the student's stripe, so the list cannot grow now
+            }
+            held.unlock(); // Applied somewhere else in the meantime: lock that internship as well
+        }
     }
     
     /**
@@ -147,6 +307,7 @@ public class StudentController {
             if (!app.getApplicationId().equals(acceptedApplication.getApplicationId())) {
                 if (app.getApplicationStatus() != ApplicationStatus.WITHDRAWN) {
                     app.withdraw();
+                    applicationStore.stage(app);
                 }
             }
         }
@@ -156,96 +317,115 @@ public class StudentController {
      * Student requests withdrawal from an application
      */
     public boolean requestWithdrawal(Student student, InternshipApplication application, String reason) {
-        // Verify application belongs to student
-        if (!application.getStudentId().equals(student.getUserId())) {
-            System.out.println("This application does not belong to you.");
-            return false;
-        }
-        
-        // Check if application can be withdrawn
-        if (!application.canBeWithdrawn()) {
-            System.out.println("This application cannot be withdrawn.");
-            return false;
-        }
-        
-        // Check if already has a pending withdrawal request
-        boolean hasPendingRequest = withdrawalRequests.stream()
-            .anyMatch(wr -> wr.getApplicationId().equals(application.getApplicationId())
-                         && wr.getRequestStatus() == RequestStatus.PENDING);
-        
-        if (hasPendingRequest) {
-            System.out.println("You already have a pending withdrawal request for this application.");
-            return false;
+        StripedLocks.Held held = lockWorkflow(application.getOpportunityId(), student.getUserId());
+        try {
+            // Verify application belongs to student
+            if (!application.getStudentId().equals(student.getUserId())) {
+                System.out.println("This application does not belong to you.");
+                return false;
+            }
+            
+            // Check if application can be withdrawn
+            if (!application.canBeWithdrawn()) {
+                System.out.println("This application cannot be withdrawn.");
+                return false;
+            }
+            
+            // Check if already has a pending withdrawal request
+            boolean hasPendingRequest = applicationIndex.requestsFor(application.getApplicationId()).stream()
+                .anyMatch(wr -> wr.getRequestStatus() == RequestStatus.PENDING);
+            
+            if (hasPendingRequest) {
+                System.out.println("You already have a pending withdrawal request for this application.");
+                return false;
+            }
+            
+            // Create withdrawal request
+            String requestId = generateWithdrawalId();
+            boolean isBeforePlacement = !application.isPlacementConfirmed();
+            
+            WithdrawalRequest request = new WithdrawalRequest(
+                requestId, student.getUserId(), application.getApplicationId(), isBeforePlacement
+            );
+            request.setRemarks(reason);
+            
+            request.setChangeListener(changeListener);
+            withdrawalRequests.add(request);
+            applicationIndex.add(request);
+            counters.withdrawalRequestAdded(request);
+            saveWithdrawalRequest(request);
+            
+            System.out.println("Withdrawal request submitted. Waiting for Career Center approval.");
+            return true;
+        } finally {
+            held.unlock();
         }
-        
-        // Create withdrawal request
-        String requestId = generateWithdrawalId();
-        boolean isBeforePlacement = !application.isPlacementConfirmed();
-        
-        WithdrawalRequest request = new WithdrawalRequest(
-            requestId, student.getUserId(), application.getApplicationId(), isBeforePlacement
-        );
-        request.setRemarks(reason);
-        
-        withdrawalRequests.add(request);
-        
-        System.out.println("Withdrawal request submitted. Waiting for Career Center approval.");
-        return true;
     }
     
     /**
      * Gets all applications for a student
      */
     public List<InternshipApplication> getStudentApplications(Student student) {
-        return applications.stream()
-            .filter(app -> app.getStudentId().equals(student.getUserId()))
-            .collect(Collectors.toList());
+        return applicationIndex.forStudent(student.getUserId());
+    }
+    
+    /**
+     * Gets one page of a student's applications (null cursor for the first page)
+     */
+    public Page<InternshipApplication> getStudentApplications(Student student, String cursor, int pageSize) {
+        return Page.slice(applicationIndex.forStudent(student.getUserId()), cursor, pageSize);
     }
     
     /**
      * Gets withdrawal requests for a student
      */
     public List<WithdrawalRequest> getStudentWithdrawalRequests(Student student) {
-        return withdrawalRequests.stream()
-            .filter(wr -> wr.getStudentId().equals(student.getUserId()))
-            .collect(Collectors.toList());
+        return applicationIndex.requestsByStudent(student.getUserId());
+    }
+    
+    /**
+     * Gets all applications to an internship
+     */
+    public List<InternshipApplication> getApplicationsForInternship(String opportunityId) {
+        return applicationIndex.forOpportunity(opportunityId);
     }
     
     /**
      * Finds an application by ID
      */
     public InternshipApplication findApplicationById(String applicationId) {
-        return applications.stream()
-            .filter(app -> app.getApplicationId().equals(applicationId))
-            .findFirst()
-            .orElse(null);
+        return applicationIndex.get(applicationId);
     }
     
     /**
      * Gets all applications
      */
     public List<InternshipApplication> getAllApplications() {
-        return new ArrayList<>(applications);
+        synchronized (applications) {
+            return new ArrayList<>(applications);
+        }
     }
     
     /**
      * Gets all withdrawal requests
      */
     public List<WithdrawalRequest> getAllWithdrawalRequests() {
-        return new ArrayList<>(withdrawalRequests);
+        synchronized (withdrawalRequests) {
+            return new ArrayList<>(withdrawalRequests);
+        }
     }
     
     /**
      * Generates a unique application ID
      */
     private String generateApplicationId() {
-        return String.format("APP%04d", nextApplicationId++);
+        return String.format("APP%04d", applicationIds.next());
     }
     
     /**
      * Generates a unique withdrawal request ID
      */
     private String generateWithdrawalId() {
-        return String.format("WR%04d", nextWithdrawalId++);
+        return String.format("WR%04d", withdrawalIds.next());
     }
 }
\ No newline at end of file
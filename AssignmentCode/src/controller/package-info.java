@@ -7,6 +7,7 @@
  * <li>Career Center Staff Operations</li>
  * <li>Company Representative Operations</li>
  * <li>Internship-related Operations</li>
+ * <li>Internship Query Engine</li>
  * <li>Student Operations</li>
  * </ul>
  */
@@ -0,0 +1,26 @@
+package entity.domain;
+
+import enums.ApplicationStatus;
+import enums.RequestStatus;
+
+/**
+ * Receives a callback whenever an application or a withdrawal request changes state
+ * (used to keep counters over applications up to date)
+ */
+public interface ApplicationChangeListener {
+
+    /**
+     * Called after the status or placement of the application has been modified
+     * @param previousStatus Status before the change (the same as the current one if only the placement changed)
+     * @param wasPlacementConfirmed Whether the placement was confirmed before the change
+     */
+    void applicationChanged(InternshipApplication application, ApplicationStatus previousStatus,
+                            boolean wasPlacementConfirmed);
+
+    /**
+     * Called after the status of the withdrawal request has been modified (ignored by default)
+     * @param previousStatus Status before the change
+     */
+    default void withdrawalRequestChanged(WithdrawalRequest request, RequestStatus previousStatus) {
+    }
+}
\ No newline at end of file
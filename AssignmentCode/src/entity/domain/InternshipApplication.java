@@ -4,6 +4,8 @@ import enums.ApplicationStatus;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents a student's application to an internship opportunity
@@ -14,9 +16,10 @@ public class InternshipApplication implements Serializable {
     private String applicationId;
     private String studentId;
     private String opportunityId;
-    private ApplicationStatus applicationStatus;
-    private boolean isPlacementConfirmed;
+    private volatile ApplicationStatus applicationStatus;
+    private volatile boolean isPlacementConfirmed;
     private LocalDate applicationDate;
+    private transient volatile CopyOnWriteArrayList<ApplicationChangeListener> changeListeners;
     
     /**
      * Constructor for InternshipApplication
@@ -84,7 +87,9 @@ public class InternshipApplication implements Serializable {
      * Sets application ID
      */
     public void setApplicationStatus(ApplicationStatus applicationStatus) {
+        ApplicationStatus previousStatus = this.applicationStatus;
         this.applicationStatus = applicationStatus;
+        notifyChanged(previousStatus, isPlacementConfirmed);
     }
     
     /**
@@ -98,7 +103,9 @@ public class InternshipApplication implements Serializable {
      * Sets internship placement status
      */
     public void setPlacementConfirmed(boolean placementConfirmed) {
+        boolean wasPlacementConfirmed = isPlacementConfirmed;
         isPlacementConfirmed = placementConfirmed;
+        notifyChanged(applicationStatus, wasPlacementConfirmed);
     }
     
     /**
@@ -120,7 +127,9 @@ public class InternshipApplication implements Serializable {
      */
     public void confirmPlacement() {
         if (applicationStatus == ApplicationStatus.SUCCESSFUL) {
+            boolean wasPlacementConfirmed = isPlacementConfirmed;
             isPlacementConfirmed = true;
+            notifyChanged(applicationStatus, wasPlacementConfirmed);
         }
     }
     
@@ -128,8 +137,42 @@ public class InternshipApplication implements Serializable {
      * Withdraws the application
      */
     public void withdraw() {
+        ApplicationStatus previousStatus = applicationStatus;
+        boolean wasPlacementConfirmed = isPlacementConfirmed;
         applicationStatus = ApplicationStatus.WITHDRAWN;
         isPlacementConfirmed = false;
+        notifyChanged(previousStatus, wasPlacementConfirmed);
+    }
+    
+    /**
+     * Adds a listener told about every change of status or placement (once, however often added)
+     */
+    public synchronized void addChangeListener(ApplicationChangeListener changeListener) {
+        if (changeListeners == null) {
+            changeListeners = new CopyOnWriteArrayList<>();
+        }
+        changeListeners.addIfAbsent(changeListener);
+    }
+    
+    /**
+     * Stops telling a listener about changes
+     */
+    public synchronized void removeChangeListener(ApplicationChangeListener changeListener) {
+        if (changeListeners != null) {
+            changeListeners.remove(changeListener);
+        }
+    }
+    
+    /**
+     * Tells every change listener that the status or placement changed
+     */
+    private void notifyChanged(ApplicationStatus previousStatus, boolean wasPlacementConfirmed) {
+        List<ApplicationChangeListener> listeners = changeListeners;
+        if (listeners != null) {
+            for (ApplicationChangeListener changeListener : listeners) {
+                changeListener.applicationChanged(this, previousStatus, wasPlacementConfirmed);
+            }
+        }
     }
     
     /**
@@ -0,0 +1,13 @@
+package entity.domain;
+
+/**
+ * Receives a callback whenever a field of an internship opportunity changes
+ * (used to keep indexes over internships up to date)
+ */
+public interface InternshipChangeListener {
+
+    /**
+     * Called after any field of the internship has been modified
+     */
+    void internshipChanged(InternshipOpportunity internship);
+}
\ No newline at end of file
@@ -6,15 +6,26 @@ import enums.Major;
 
 import java.io.Serializable;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Represents an internship opportunity in the system
+ * <p>
+ * Filled and total slots are packed into one word (filled in the high half, total in the low half)
+ * so a slot is reserved or released with a single compare-and-set: concurrent placement acceptances
+ * can never fill more slots than the internship has. The status follows with its own
+ * compare-and-set, becoming FILLED when the last slot is taken and APPROVED again when one is freed.
  */
 public class InternshipOpportunity implements Serializable {
     private static final long serialVersionUID = 1L;
     private static final int MAX_SLOTS = 10;
+    private static final AtomicLongFieldUpdater<InternshipOpportunity> SLOTS =
+        AtomicLongFieldUpdater.newUpdater(InternshipOpportunity.class, "slots");
+    private static final AtomicReferenceFieldUpdater<InternshipOpportunity, InternshipStatus> STATUS =
+        AtomicReferenceFieldUpdater.newUpdater(InternshipOpportunity.class, InternshipStatus.class, "status");
     
     private String opportunityId;
     private String title;
@@ -23,13 +34,13 @@ public class InternshipOpportunity implements Serializable {
     private Major preferredMajor;
     private LocalDate openingDate;
     private LocalDate closingDate;
-    private InternshipStatus status;
+    private volatile InternshipStatus status;
     private String companyName;
     private String assignedRepresentativeId;
-    private int totalSlots;
-    private int filledSlots;
+    private volatile long slots; // Filled slots << 32 | total slots
     private boolean isVisible;
     private List<InternshipApplication> applications;
+    private transient InternshipChangeListener changeListener;
     
     /**
      * Constructor for InternshipOpportunity
@@ -49,10 +60,9 @@ public class InternshipOpportunity implements Serializable {
         this.status = InternshipStatus.PENDING;
         this.companyName = companyName;
         this.assignedRepresentativeId = assignedRepresentativeId;
-        this.totalSlots = Math.min(totalSlots, MAX_SLOTS);
-        this.filledSlots = 0;
+        this.slots = pack(0, Math.min(totalSlots, MAX_SLOTS));
         this.isVisible = false;
-        this.applications = new ArrayList<>();
+        this.applications = new CopyOnWriteArrayList<>();
     }
     
     // Getters and Setters
@@ -68,6 +78,7 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setOpportunityId(String opportunityId) {
         this.opportunityId = opportunityId;
+        notifyChanged();
     }
     
     /**
@@ -82,6 +93,7 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setTitle(String title) {
         this.title = title;
+        notifyChanged();
     }
     
     /**
@@ -96,6 +108,7 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setDescription(String description) {
         this.description = description;
+        notifyChanged();
     }
     
     /**
@@ -110,6 +123,7 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setLevel(InternshipLevel level) {
         this.level = level;
+        notifyChanged();
     }
     
     /**
@@ -124,6 +138,7 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setPreferredMajor(Major preferredMajor) {
         this.preferredMajor = preferredMajor;
+        notifyChanged();
     }
     
     /**
@@ -138,6 +153,7 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setOpeningDate(LocalDate openingDate) {
         this.openingDate = openingDate;
+        notifyChanged();
     }
     
     /**
@@ -152,6 +168,7 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setClosingDate(LocalDate closingDate) {
         this.closingDate = closingDate;
+        notifyChanged();
     }
     
     /**
@@ -166,6 +183,7 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setStatus(InternshipStatus status) {
         this.status = status;
+        notifyChanged();
     }
     
     /**
@@ -180,6 +198,7 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setCompanyName(String companyName) {
         this.companyName = companyName;
+        notifyChanged();
     }
     
     /**
@@ -194,34 +213,44 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setAssignedRepresentativeId(String assignedRepresentativeId) {
         this.assignedRepresentativeId = assignedRepresentativeId;
+        notifyChanged();
     }
     
     /**
      * Returns internship slots
      */
     public int getTotalSlots() {
-        return totalSlots;
+        return total(slots);
     }
     
     /**
      * Sets internship slots
      */
     public void setTotalSlots(int totalSlots) {
-        this.totalSlots = Math.min(totalSlots, MAX_SLOTS);
+        int total = Math.min(totalSlots, MAX_SLOTS);
+        long current;
+        do {
+            current = slots;
+        } while (!SLOTS.compareAndSet(this, current, pack(filled(current), total)));
+        notifyChanged();
     }
     
     /**
      * Returns filled internship slots
      */
     public int getFilledSlots() {
-        return filledSlots;
+        return filled(slots);
     }
     
     /**
      * Sets filled internship slots
      */
     public void setFilledSlots(int filledSlots) {
-        this.filledSlots = filledSlots;
+        long current;
+        do {
+            current = slots;
+        } while (!SLOTS.compareAndSet(this, current, pack(filledSlots, total(current))));
+        notifyChanged();
     }
     
     /**
@@ -236,10 +265,27 @@ public class InternshipOpportunity implements Serializable {
      */
     public void setVisible(boolean visible) {
         isVisible = visible;
+        notifyChanged();
     }
     
     /**
-     * Returns internship application list
+     * Sets the listener told about every change to this internship (null to stop notifications)
+     */
+    public void setChangeListener(InternshipChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+    
+    /**
+     * Tells the change listener, if any, that a field changed
+     */
+    private void notifyChanged() {
+        if (changeListener != null) {
+            changeListener.internshipChanged(this);
+        }
+    }
+    
+    /**
+     * Returns internship application list (copy-on-write, so it can be read while applications are added)
      */
     public List<InternshipApplication> getApplications() {
         return applications;
@@ -263,33 +309,94 @@ public class InternshipOpportunity implements Serializable {
      * Checks if there are available slots
      */
     public boolean hasAvailableSlots() {
-        return filledSlots < totalSlots;
+        long current = slots;
+        return filled(current) < total(current);
+    }
+    
+    /**
+     * Atomically takes one slot if any is available, marking the internship FILLED if it was the last
+     * @return true if a slot was reserved, false if all slots were already filled
+     */
+    public boolean reserveSlot() {
+        long current;
+        do {
+            current = slots;
+            if (filled(current) >= total(current)) {
+                return false;
+            }
+        } while (!SLOTS.compareAndSet(this, current, current + (1L << 32)));
+        reconcileStatus();
+        notifyChanged();
+        return true;
+    }
+    
+    /**
+     * Atomically gives back one slot, reopening a FILLED internship
+     * @return true if a slot was released, false if none was filled
+     */
+    public boolean releaseSlot() {
+        long current;
+        do {
+            current = slots;
+            if (filled(current) <= 0) {
+                return false;
+            }
+        } while (!SLOTS.compareAndSet(this, current, current - (1L << 32)));
+        reconcileStatus();
+        notifyChanged();
+        return true;
     }
     
     /**
      * Increments filled slots when a student confirms placement
      */
     public void incrementFilledSlots() {
-        if (filledSlots < totalSlots) {
-            filledSlots++;
-            if (filledSlots == totalSlots) {
-                status = InternshipStatus.FILLED;
-            }
-        }
+        reserveSlot();
     }
     
     /**
      * Decrements filled slots when a placement is withdrawn
      */
     public void decrementFilledSlots() {
-        if (filledSlots > 0) {
-            filledSlots--;
-            if (status == InternshipStatus.FILLED) {
-                status = InternshipStatus.APPROVED;
+        releaseSlot();
+    }
+    
+    /**
+     * Brings the status in line with the slots after a reservation or release. Only returns once it
+     * has seen a consistent status with the slots unchanged, so a concurrent release cannot leave a
+     * stale FILLED behind (nor a concurrent reservation a stale APPROVED)
+     */
+    private void reconcileStatus() {
+        while (true) {
+            long seen = slots;
+            boolean full = filled(seen) >= total(seen);
+            InternshipStatus current = status;
+            InternshipStatus target = current;
+            if (full && current == InternshipStatus.APPROVED) {
+                target = InternshipStatus.FILLED;
+            } else if (!full && current == InternshipStatus.FILLED) {
+                target = InternshipStatus.APPROVED;
+            }
+            if (target != current) {
+                STATUS.compareAndSet(this, current, target);
+            } else if (slots == seen) {
+                return;
             }
         }
     }
     
+    private static long pack(int filled, int total) {
+        return ((long) filled << 32) | (total & 0xFFFFFFFFL);
+    }
+    
+    private static int filled(long slots) {
+        return (int) (slots >>> 32);
+    }
+    
+    private static int total(long slots) {
+        return (int) slots;
+    }
+    
     /**
      * Checks if the internship is accepting applications
      */
@@ -309,6 +416,6 @@ public class InternshipOpportunity implements Serializable {
     public String toString() {
         return "ID: " + opportunityId + ", Title: " + title + 
                ", Company: " + companyName + ", Level: " + level + 
-               ", Status: " + status + ", Slots: " + filledSlots + "/" + totalSlots;
+               ", Status: " + status + ", Slots: " + getFilledSlots() + "/" + getTotalSlots();
     }
 }
\ No newline at end of file
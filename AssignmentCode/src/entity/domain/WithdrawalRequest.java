@@ -14,11 +14,12 @@ public class WithdrawalRequest implements Serializable {
     private String requestId;
     private String studentId;
     private String applicationId;
-    private RequestStatus requestStatus;
+    private volatile RequestStatus requestStatus;
     private boolean isBeforePlacement;
     private LocalDate requestDate;
     private LocalDate processedDate;
     private String remarks;
+    private transient ApplicationChangeListener changeListener;
     
     /**
      * Constructor for WithdrawalRequest
@@ -89,7 +90,9 @@ public class WithdrawalRequest implements Serializable {
      * Sets withdrawal request status
      */
     public void setRequestStatus(RequestStatus requestStatus) {
+        RequestStatus previousStatus = this.requestStatus;
         this.requestStatus = requestStatus;
+        notifyChanged(previousStatus);
     }
     
     /**
@@ -152,18 +155,38 @@ public class WithdrawalRequest implements Serializable {
      * Approves the withdrawal request
      */
     public void approve(String remarks) {
+        RequestStatus previousStatus = this.requestStatus;
         this.requestStatus = RequestStatus.APPROVED;
         this.processedDate = LocalDate.now();
         this.remarks = remarks;
+        notifyChanged(previousStatus);
     }
     
     /**
      * Rejects the withdrawal request
      */
     public void reject(String remarks) {
+        RequestStatus previousStatus = this.requestStatus;
         this.requestStatus = RequestStatus.REJECTED;
         this.processedDate = LocalDate.now();
         this.remarks = remarks;
+        notifyChanged(previousStatus);
+    }
+    
+    /**
+     * Sets the listener told about every change of status (null to stop notifications)
+     */
+    public void setChangeListener(ApplicationChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+    
+    /**
+     * Tells the change listener, if any, that the status changed
+     */
+    private void notifyChanged(RequestStatus previousStatus) {
+        if (changeListener != null) {
+            changeListener.withdrawalRequestChanged(this, previousStatus);
+        }
     }
     
     /**
@@ -5,6 +5,8 @@
  * <ul>
  * <li>Internship Application</li>
  * <li>Internship Opportunity Listing</li>
+ * <li>Internship Change Notifications</li>
+ * <li>Application Change Notifications</li>
  * <li>Withdrawal Application</li>
  * </ul>
  */
@@ -17,6 +17,7 @@ public class CompanyRepresentative extends User {
     private String position;
     private boolean registrationApproved;
     private List<InternshipOpportunity> createdOpportunities;
+    private transient boolean dirty;  // Changed since last written to file
     
     /**
      * Constructor for CompanyRepresentative
@@ -36,9 +37,28 @@ public class CompanyRepresentative extends User {
         this.position = position;
         this.registrationApproved = false;
         this.createdOpportunities = new ArrayList<>();
+        this.dirty = true;  // New records have not been written yet
     }
     
     // Getters and Setters
+    /**
+     * Sets name (marks the record as changed)
+     */
+    @Override
+    public void setName(String name) {
+        super.setName(name);
+        this.dirty = true;
+    }
+    
+    /**
+     * Sets email (marks the record as changed)
+     */
+    @Override
+    public void setEmail(String email) {
+        super.setEmail(email);
+        this.dirty = true;
+    }
+    
     /**
      * Returns company name
      */
@@ -51,6 +71,7 @@ public class CompanyRepresentative extends User {
      */
     public void setCompanyName(String companyName) {  // CHANGED
         this.companyName = companyName;
+        this.dirty = true;
     }
     
     /**
@@ -65,6 +86,7 @@ public class CompanyRepresentative extends User {
      */
     public void setDepartment(String department) {
         this.department = department;
+        this.dirty = true;
     }
     
     /**
@@ -79,6 +101,7 @@ public class CompanyRepresentative extends User {
      */
     public void setPosition(String position) {
         this.position = position;
+        this.dirty = true;
     }
     
     /**
@@ -93,6 +116,21 @@ public class CompanyRepresentative extends User {
      */
     public void setRegistrationApproved(boolean registrationApproved) {
         this.registrationApproved = registrationApproved;
+        this.dirty = true;
+    }
+    
+    /**
+     * Returns if the record changed since it was last written to file
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+    
+    /**
+     * Marks the record as written to file
+     */
+    public void markClean() {
+        this.dirty = false;
     }
     
     /**
@@ -1,17 +1,25 @@
 package entity.user;
 
+import entity.domain.ApplicationChangeListener;
 import entity.domain.InternshipApplication;
 import entity.domain.InternshipOpportunity;
 import enums.ApplicationStatus;
 import enums.Major;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents a Student user in the system
+ * <p>
+ * The number of active applications and of confirmed placements are kept up to date from the
+ * change notifications of the student's applications, so eligibility checks do not walk the
+ * application history. The counts are atomic because applications report changes from whichever
+ * thread changed them; the application list is guarded by the student's monitor.
  */
-public class Student extends User {
+public class Student extends User implements ApplicationChangeListener {
     private static final long serialVersionUID = 1L;
     private static final int MAX_APPLICATIONS = 3;
     
@@ -19,6 +27,8 @@ public class Student extends User {
     private Major major;
     private List<InternshipApplication> applications;
     private InternshipOpportunity acceptedInternship;
+    private final AtomicInteger activeApplicationCount = new AtomicInteger();  // Pending or successful applications
+    private final AtomicInteger confirmedPlacementCount = new AtomicInteger(); // Applications with a confirmed placement
     
     /**
      * Constructor for Student
@@ -67,10 +77,10 @@ public class Student extends User {
     }
     
     /**
-     * Returns applications
+     * Returns a read-only copy of the applications (use addApplication or removeApplication to change them)
      */
-    public List<InternshipApplication> getApplications() {
-        return applications;
+    public synchronized List<InternshipApplication> getApplications() {
+        return Collections.unmodifiableList(new ArrayList<>(applications));
     }
     
     /**
@@ -90,43 +100,103 @@ public class Student extends User {
     /**
      * Returns if application successfully added
      */
-    public boolean addApplication(InternshipApplication application) {
-        if (getActiveApplicationCount() < MAX_APPLICATIONS) {
-            applications.add(application);
+    public synchronized boolean addApplication(InternshipApplication application) {
+        if (activeApplicationCount.get() < MAX_APPLICATIONS) {
+            track(application);
             return true;
         }
         return false;
     }
     
+    /**
+     * Adds a previously stored application regardless of the application limit
+     */
+    public synchronized void restoreApplication(InternshipApplication application) {
+        track(application);
+    }
+    
     /**
      * Removes application
      */
-    public void removeApplication(InternshipApplication application) {
-        applications.remove(application);
+    public synchronized void removeApplication(InternshipApplication application) {
+        if (applications.remove(application)) {
+            application.removeChangeListener(this);
+            count(application.getApplicationStatus(), application.isPlacementConfirmed(), -1);
+        }
+    }
+    
+    /**
+     * Updates the counts when one of the student's applications changes status or placement
+     */
+    @Override
+    public void applicationChanged(InternshipApplication application, ApplicationStatus previousStatus,
+                                   boolean wasPlacementConfirmed) {
+        count(previousStatus, wasPlacementConfirmed, -1);
+        count(application.getApplicationStatus(), application.isPlacementConfirmed(), 1);
+    }
+    
+    /**
+     * Checks that the maintained counts match a recount over every application
+     */
+    public synchronized boolean verifyApplicationCounts() {
+        return activeApplicationCount.get() == recountActiveApplications()
+            && (confirmedPlacementCount.get() > 0) == recountConfirmedPlacement();
+    }
+    
+    private void track(InternshipApplication application) {
+        applications.add(application);
+        application.addChangeListener(this);
+        count(application.getApplicationStatus(), application.isPlacementConfirmed(), 1);
+    }
+    
+    private void count(ApplicationStatus status, boolean placementConfirmed, int sign) {
+        if (isActive(status)) {
+            activeApplicationCount.addAndGet(sign);
+        }
+        if (placementConfirmed) {
+            confirmedPlacementCount.addAndGet(sign);
+        }
+    }
+    
+    private static boolean isActive(ApplicationStatus status) {
+        return status == ApplicationStatus.PENDING || status == ApplicationStatus.SUCCESSFUL;
     }
     
     /**
      * Checks if student can apply for internship
      */
     public boolean canApply() {
-        return getActiveApplicationCount() < MAX_APPLICATIONS && !hasConfirmedPlacement();
+        return activeApplicationCount.get() < MAX_APPLICATIONS && confirmedPlacementCount.get() == 0;
     }    
     
     /**
      * Returns number of applications submitted
      */
-    public int getApplicationCount() {
+    public synchronized int getApplicationCount() {
         return applications.size();
     }
 
     /**
-     * Counts active (non-withdrawn) applications
+     * Returns number of active (pending or successful) applications
      */
-    private int getActiveApplicationCount() {
+    public int getActiveApplicationCount() {
+        return activeApplicationCount.get();
+    }
+    
+    /**
+     * Checks if student has confirmed placement for internship
+     */
+    public boolean hasConfirmedPlacement() {
+        return confirmedPlacementCount.get() > 0;
+    }
+    
+    /**
+     * Counts active (pending or successful) applications by walking every application
+     */
+    private int recountActiveApplications() {
         int count = 0;
         for (InternshipApplication app : applications) {
-            ApplicationStatus status = app.getApplicationStatus();
-            if (status == ApplicationStatus.PENDING || status == ApplicationStatus.SUCCESSFUL) {
+            if (isActive(app.getApplicationStatus())) {
                 count++;
             }
         }
@@ -134,9 +204,9 @@ public class Student extends User {
     }
     
     /**
-     * Checks if student has confirmed placement for internship
+     * Checks for a confirmed placement by walking every application
      */
-    public boolean hasConfirmedPlacement() {
+    private boolean recountConfirmedPlacement() {
         for (InternshipApplication app : applications) {
             if (app.isPlacementConfirmed()) {
                 return true;
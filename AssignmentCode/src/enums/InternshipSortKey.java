@@ -0,0 +1,25 @@
+package enums;
+
+/**
+ * Represents the order of internship query results
+ */
+
+public enum InternshipSortKey {
+    CATALOG("Catalog order"),
+    TITLE("Title (A-Z)"),
+    OPENING_DATE("Opening date"),
+    CLOSING_DATE("Closing date");
+    
+    private final String displayName;
+    
+    InternshipSortKey(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    /**
+     * Returns the sort key for display
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package enums;
+
+/**
+ * Represents how dataset changes are written back to disk
+ */
+
+public enum PersistenceMode {
+    FULL_REWRITE("Rewrite whole CSV on every change"),
+    JOURNAL("Append changes to a journal, compact in background"),
+    WRITE_BEHIND("Mark changes dirty, rewrite CSV in background batches");
+    
+    private final String displayName;
+    
+    PersistenceMode(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    /**
+     * Returns the persistence mode for display
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
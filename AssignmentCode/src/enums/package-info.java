@@ -5,8 +5,10 @@
  * <ul>
  * <li>Application Status</li>
  * <li>Internship Level</li>
+ * <li>Internship Query Sort Key</li>
  * <li>Internship Status</li>
  * <li>Major</li>
+ * <li>Persistence Mode</li>
  * <li>Withdrawal Request Status</li>
  * <li>User Types</li>
  * </ul>
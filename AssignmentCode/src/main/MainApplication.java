@@ -5,9 +5,22 @@ import boundary.*;
 import entity.user.Student;
 import entity.user.CompanyRepresentative;
 import entity.user.CareerCenterStaff;
+import util.AtomicFileWriter;
+import util.DatasetWatcher;
 import util.FileHandler;
+import util.Snapshot;
+import util.SnapshotCodec;
+import util.WriteBehindFlusher;
+import enums.PersistenceMode;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 /**
  * Main application class - Entry point for the Internship Placement Management System
@@ -19,6 +32,26 @@ public class MainApplication {
     private List<CompanyRepresentative> companyReps;
     private List<CareerCenterStaff> staff;
     
+    // Settings
+    private PersistenceMode persistenceMode = PersistenceMode.FULL_REWRITE;
+    private boolean useSnapshot = true;
+    private boolean watchFiles = true;
+    private long maxStalenessMillis = WriteBehindFlusher.DEFAULT_MAX_STALENESS_MILLIS;
+    private int maxBatchSize = WriteBehindFlusher.DEFAULT_MAX_BATCH_SIZE;
+    private static final String SNAPSHOT_PATH = "assets/snapshot.bin";
+    private static final String[] SNAPSHOT_SOURCES = {
+        "assets/student_list.csv", "assets/staff_list.csv",
+        "assets/company_representative_list.csv", "assets/company_representative_list.log",
+        "assets/internship_list.csv", "assets/internship_journal.log",
+        "assets/application_list.log", "assets/withdrawal_request_list.log"
+    };
+    
+    // Reloads student and staff files when they are replaced while running
+    private DatasetWatcher datasetWatcher;
+    
+    // Snapshot restored at startup, held until applications are linked
+    private Snapshot restoredSnapshot;
+    
     // Controllers
     private AuthController authController;
     private InternshipController internshipController;
@@ -35,13 +68,73 @@ public class MainApplication {
     
     /**
      * Main method - Entry point
+     * <p>
+     * Options: {@code --journal} appends internship changes to a journal instead of rewriting the CSV,
+     * {@code --write-behind} saves internship and representative changes in background batches
+     * (tuned with {@code --flush-staleness=<ms>} and {@code --flush-batch=<n>}),
+     * {@code --parallel-load} reads data files in chunks and parses them in parallel,
+     * {@code --no-snapshot} always loads from the data files and skips writing a snapshot on exit,
+     * {@code --no-watch} stops student and staff files from being reloaded when they change
      */
     public static void main(String[] args) {
         MainApplication app = new MainApplication();
+        app.parseArguments(args);
         app.initialize();
         app.start();
     }
     
+    /**
+     * Reads command line options
+     */
+    private void parseArguments(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--flush-staleness=")) {
+                maxStalenessMillis = parseOption(arg, maxStalenessMillis);
+                continue;
+            }
+            if (arg.startsWith("--flush-batch=")) {
+                maxBatchSize = (int) parseOption(arg, maxBatchSize);
+                continue;
+            }
+            
+            switch (arg) {
+                case "--journal":
+                    persistenceMode = PersistenceMode.JOURNAL;
+                    break;
+                case "--write-behind":
+                    persistenceMode = PersistenceMode.WRITE_BEHIND;
+                    break;
+                case "--parallel-load":
+                    FileHandler.setParallelLoading(true);
+                    break;
+                case "--no-snapshot":
+                    useSnapshot = false;
+                    break;
+                case "--no-watch":
+                    watchFiles = false;
+                    break;
+                default:
+                    System.out.println("Ignoring unknown option: " + arg);
+            }
+        }
+    }
+    
+    /**
+     * Reads the positive number after '=' in an option, keeping the current value if it is invalid
+     */
+    private static long parseOption(String arg, long current) {
+        try {
+            long value = Long.parseLong(arg.substring(arg.indexOf('=') + 1));
+            if (value > 0 && value <= Integer.MAX_VALUE) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through
+        }
+        System.out.println("Ignoring invalid option: " + arg);
+        return current;
+    }
+    
     /**
      * Initializes the application - loads data and creates controllers/views
      */
@@ -59,47 +152,146 @@ public class MainApplication {
         // Create views
         createViews();
         
+        // Pick up student and staff files dropped into assets while running
+        if (watchFiles) {
+            startFileWatcher();
+        }
+        
         System.out.println("\n==============================================");
         System.out.println("  SYSTEM INITIALISATION COMPLETE");
         System.out.println("==============================================\n");
     }
     
     /**
-     * Loads all data from CSV files
+     * Loads all data from CSV files (the files are independent, so they are loaded concurrently)
      */
     private void loadData() {
         System.out.println("Loading data from files...\n");
 
-        // Load students
-        students = FileHandler.loadStudents("assets/student_list.csv");
+        // Create internship controller (manages all internships) so its file can load alongside the others
+        internshipController = new InternshipController();
+        internshipController.setPersistenceMode(persistenceMode);
+        internshipController.setWriteBehindLimits(maxStalenessMillis, maxBatchSize);
+
+        // A snapshot taken from the data files exactly as they are holds the same state and loads much faster
+        if (useSnapshot && loadSnapshot()) {
+            return;
+        }
 
-        // Load staff
-        staff = FileHandler.loadStaff("assets/staff_list.csv");
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+        ExecutorService loader = Executors.newFixedThreadPool(4);
+        long start = System.nanoTime();
 
-        // Load company representatives (may be empty initially)
-        companyReps = FileHandler.loadCompanyReps("assets/company_representative_list.csv");
+        try {
+            // Load students
+            CompletableFuture<List<Student>> studentLoad = CompletableFuture.supplyAsync(
+                timed("student_list.csv", timings, () -> FileHandler.loadStudents("assets/student_list.csv")), loader);
+
+            // Load staff
+            CompletableFuture<List<CareerCenterStaff>> staffLoad = CompletableFuture.supplyAsync(
+                timed("staff_list.csv", timings, () -> FileHandler.loadStaff("assets/staff_list.csv")), loader);
+
+            // Load company representatives (may be empty initially)
+            CompletableFuture<List<CompanyRepresentative>> repLoad = CompletableFuture.supplyAsync(
+                timed("company_representative_list.csv", timings,
+                    () -> FileHandler.loadCompanyReps("assets/company_representative_list.csv")), loader);
+
+            // Load internships from CSV file
+            CompletableFuture<InternshipController> internshipLoad = CompletableFuture.supplyAsync(
+                timed("internship_list.csv", timings, () -> {
+                    internshipController.loadInternshipsFromFile();
+                    return internshipController;
+                }), loader);
+
+            // Wait for every file before wiring controllers
+            CompletableFuture.allOf(studentLoad, staffLoad, repLoad, internshipLoad).join();
+            students = studentLoad.join();
+            staff = staffLoad.join();
+            companyReps = repLoad.join();
+        } finally {
+            loader.shutdown();
+        }
+
+        long totalMillis = (System.nanoTime() - start) / 1_000_000;
 
         System.out.println("\nData loading complete!");
         System.out.println("Students: " + students.size());
         System.out.println("Staff: " + staff.size());
         System.out.println("Company Representatives: " + companyReps.size());
+        System.out.println("Internships: " + internshipController.getAllInternships().size());
+
+        // Slowest file first, since it bounds the total
+        System.out.println("\nLoad times:");
+        timings.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .forEach(timing -> System.out.println("  " + timing.getKey() + ": " + timing.getValue() + " ms"));
+        System.out.println("  Total (concurrent): " + totalMillis + " ms");
     }
     
     /**
-     * Creates all controllers
+     * Restores all data from the binary snapshot, unless a data file changed since it was taken
+     * @return true if the snapshot was loaded, false to fall back to the data files
      */
-    private void createControllers() {
-        System.out.println("\nInitialising controllers...");
+    private boolean loadSnapshot() {
+        long start = System.nanoTime();
+        try {
+            restoredSnapshot = SnapshotCodec.readIfCurrent(SNAPSHOT_PATH, SNAPSHOT_SOURCES);
+        } catch (IOException e) {
+            System.err.println("Error reading snapshot, loading data files instead: " + e.getMessage());
+            return false;
+        }
+        if (restoredSnapshot == null) {
+            return false; // Missing, or out of date
+        }
 
-        // Create internship controller (manages all internships)
-        internshipController = new InternshipController();
+        students = restoredSnapshot.getStudents();
+        staff = restoredSnapshot.getStaff();
+        companyReps = restoredSnapshot.getCompanyReps();
+        internshipController.loadInternshipsFromSnapshot(restoredSnapshot.getInternships());
+
+        long totalMillis = (System.nanoTime() - start) / 1_000_000;
 
-        // Load internships from CSV file
-        internshipController.loadInternshipsFromFile();
+        System.out.println("Data loading complete (from " + SNAPSHOT_PATH + ")!");
+        System.out.println("Students: " + students.size());
+        System.out.println("Staff: " + staff.size());
+        System.out.println("Company Representatives: " + companyReps.size());
         System.out.println("Internships: " + internshipController.getAllInternships().size());
+        System.out.println("\nLoad time: " + totalMillis + " ms");
+        return true;
+    }
+    
+    /**
+     * Wraps a load so its duration is recorded under the given file name
+     */
+    private static <T> Supplier<T> timed(String fileName, Map<String, Long> timings, Supplier<T> load) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                return load.get();
+            } finally {
+                timings.put(fileName, (System.nanoTime() - start) / 1_000_000);
+            }
+        };
+    }
+    
+    /**
+     * Creates all controllers
+     */
+    private void createControllers() {
+        System.out.println("\nInitialising controllers...");
 
         // Create student controller (manages applications and withdrawals)
         studentController = new StudentController(internshipController);
+        
+        // Load applications and withdrawal requests, linking them to students and internships
+        if (restoredSnapshot != null) {
+            studentController.loadApplicationsFromSnapshot(
+                restoredSnapshot.getApplications(), restoredSnapshot.getWithdrawalRequests(), students
+            );
+            restoredSnapshot = null;
+        } else {
+            studentController.loadApplicationsFromFile(students);
+        }
 
         // Create company rep controller (manages internship creation and application processing)
         companyRepController = new CompanyRepController(internshipController, studentController);
@@ -108,6 +300,9 @@ public class MainApplication {
         careerCenterController = new CareerCenterController(
             companyReps, internshipController, studentController
         );
+        if (persistenceMode == PersistenceMode.WRITE_BEHIND) {
+            careerCenterController.enableWriteBehind(maxStalenessMillis, maxBatchSize);
+        }
 
         // Create auth controller (manages login/logout)
         authController = new AuthController(students, companyReps, staff);
@@ -115,6 +310,16 @@ public class MainApplication {
         System.out.println("Controllers initialised successfully!");
     }
     
+    /**
+     * Watches the student and staff files and applies their changes without a restart
+     */
+    private void startFileWatcher() {
+        datasetWatcher = new DatasetWatcher("assets");
+        datasetWatcher.watch("student_list.csv", () -> authController.reloadStudents("assets/student_list.csv"));
+        datasetWatcher.watch("staff_list.csv", () -> authController.reloadStaff("assets/staff_list.csv"));
+        datasetWatcher.start();
+    }
+    
     /**
      * Creates all views
      */
@@ -152,7 +357,48 @@ public class MainApplication {
      * Starts the application
      */
     private void start() {
-        // Start the main view (login screen and main menu loop)
+        // Flush pending changes however the application exits (a signal may arrive mid-change,
+        // so no snapshot is taken then)
+        Thread shutdownHook = new Thread(() -> shutdown(false), "shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        
+        // Start the main view (login screen and main menu loop); returns when the user exits
         mainView.start();
+        
+        Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        shutdown(true);
+        System.exit(0);
+    }
+    
+    /**
+     * Flushes pending changes and stops background tasks
+     * @param takeSnapshot Also write a snapshot for the next start (only once no change is in progress)
+     */
+    private void shutdown(boolean takeSnapshot) {
+        if (datasetWatcher != null) {
+            datasetWatcher.close();
+        }
+        studentController.shutdown();
+        boolean saved = internshipController.shutdown();
+        saved &= careerCenterController.shutdown();
+        saved &= AtomicFileWriter.flushAll();
+        
+        if (!takeSnapshot || !useSnapshot) {
+            return;
+        }
+        if (!saved) {
+            System.err.println("Not writing a snapshot: some changes could not be saved to the data files.");
+            return;
+        }
+        
+        // Taken last, fingerprinting the data files as they were saved
+        try {
+            SnapshotCodec.write(new Snapshot(
+                students, staff, companyReps, internshipController.getAllInternships(),
+                studentController.getAllApplications(), studentController.getAllWithdrawalRequests()
+            ), SNAPSHOT_PATH, SNAPSHOT_SOURCES);
+        } catch (IOException e) {
+            System.err.println("Error writing snapshot: " + e.getMessage());
+        }
     }
 }
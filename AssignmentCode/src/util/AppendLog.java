@@ -0,0 +1,200 @@
+package util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of CSV records kept alongside a CSV dataset.
+ * Each mutation is written as one line at the end of the file instead of rewriting the dataset.
+ * Every append (or batch of appends) is forced to disk before returning, so a logged change
+ * survives a crash of the application or the machine.
+ */
+public class AppendLog {
+
+    private final String filePath;
+    private FileOutputStream output;
+    private PrintWriter writer;
+    private int recordCount;
+
+    /**
+     * Opens (or creates) the log at the given path
+     */
+    public AppendLog(String filePath) {
+        this.filePath = filePath;
+        this.recordCount = read(csv -> { });
+    }
+
+    /**
+     * Returns the path of the log file
+     */
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns number of records currently in the log
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Appends a single record to the end of the log
+     */
+    public synchronized void append(String... fields) {
+        PrintWriter pw = getWriter();
+        if (pw == null) {
+            return;
+        }
+        pw.println(FileHandler.toCSVLine(fields));
+        flushAndForce(pw);
+        recordCount++;
+    }
+
+    /**
+     * Appends a batch of records with a single flush and force
+     */
+    public synchronized void appendAll(List<String[]> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        PrintWriter pw = getWriter();
+        if (pw == null) {
+            return;
+        }
+        for (String[] fields : records) {
+            pw.println(FileHandler.toCSVLine(fields));
+        }
+        flushAndForce(pw);
+        recordCount += records.size();
+    }
+
+    /**
+     * Replaces the whole log with the given records (used to drop superseded records)
+     */
+    public synchronized void rewrite(List<String[]> records) {
+        close();
+        StringBuilder sb = new StringBuilder();
+        for (String[] fields : records) {
+            sb.append(FileHandler.toCSVLine(fields)).append(System.lineSeparator());
+        }
+
+        try {
+            AtomicFileWriter.replace(Paths.get(filePath), sb.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Error rewriting log file " + filePath + ": " + e.getMessage());
+            return;
+        }
+        recordCount = records.size();
+    }
+
+    /**
+     * Passes every record in the log to the handler, oldest first
+     * <p>
+     * The reader is positioned on the record being handled and is only valid during the call.
+     * @return number of records read
+     */
+    public synchronized int read(Consumer<CsvReader> handler) {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            return 0;
+        }
+
+        int count = 0;
+        try (CsvReader csv = CsvReader.open(filePath)) {
+            while (csv.next()) {
+                if (!csv.isBlankRecord()) {
+                    handler.accept(csv);
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading log file " + filePath + ": " + e.getMessage());
+        }
+
+        return count;
+    }
+
+    /**
+     * Discards every record in the log (called once the records are folded into a snapshot)
+     */
+    public synchronized void truncate() {
+        close();
+        try {
+            new FileWriter(filePath).close();
+            recordCount = 0;
+        } catch (IOException e) {
+            System.err.println("Error truncating log file " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Discards the oldest records (called once they are folded into a snapshot); records
+     * appended after them are kept
+     * @param count Number of records to discard
+     */
+    public synchronized void truncate(int count) {
+        if (count >= recordCount) {
+            truncate();
+            return;
+        }
+        if (count <= 0) {
+            return;
+        }
+
+        List<String[]> kept = new ArrayList<>(recordCount - count);
+        int[] index = {0};
+        read(csv -> {
+            if (index[0]++ >= count) {
+                kept.add(csv.toArray());
+            }
+        });
+        rewrite(kept);
+    }
+
+    /**
+     * Closes the underlying file; the next append reopens it
+     */
+    public synchronized void close() {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+            output = null;
+        }
+    }
+
+    /**
+     * Lazily opens the log in append mode
+     */
+    private PrintWriter getWriter() {
+        if (writer == null) {
+            try {
+                output = new FileOutputStream(filePath, true);
+                writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(output)));
+            } catch (IOException e) {
+                System.err.println("Error opening log file " + filePath + ": " + e.getMessage());
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * Writes out buffered records and forces them to disk (the file's metadata is not needed)
+     */
+    private void flushAndForce(PrintWriter pw) {
+        pw.flush();
+        if (pw.checkError()) {
+            System.err.println("Error writing log file " + filePath);
+            return;
+        }
+        try {
+            output.getChannel().force(false);
+        } catch (IOException e) {
+            System.err.println("Error syncing log file " + filePath + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package util;
+
+import entity.domain.InternshipApplication;
+import entity.domain.WithdrawalRequest;
+import enums.ApplicationStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Indexes over applications and withdrawal requests.
+ * <p>
+ * Applications are indexed by ID (first one wins if IDs repeat) and kept in per-student and
+ * per-internship lists in the order they were added. For every (student, internship) pair the
+ * number of applications that are not withdrawn is maintained from status change notifications,
+ * so the duplicate-application check is one hash lookup. Withdrawal requests are listed per
+ * application and per student.
+ */
+public class ApplicationIndex {
+
+    private final Map<String, InternshipApplication> byId = new HashMap<>();
+    private final Map<String, List<InternshipApplication>> byStudent = new HashMap<>();
+    private final Map<String, List<InternshipApplication>> byOpportunity = new HashMap<>();
+    private final Map<Pair, Integer> activeByPair = new HashMap<>(); // Applications not withdrawn
+    private final Map<String, List<WithdrawalRequest>> requestsByApplication = new HashMap<>();
+    private final Map<String, List<WithdrawalRequest>> requestsByStudent = new HashMap<>();
+
+    /**
+     * Replaces the whole index with the given applications and withdrawal requests, in list order
+     */
+    public synchronized void rebuild(List<InternshipApplication> applications, List<WithdrawalRequest> requests) {
+        byId.clear();
+        byStudent.clear();
+        byOpportunity.clear();
+        activeByPair.clear();
+        requestsByApplication.clear();
+        requestsByStudent.clear();
+        for (InternshipApplication application : applications) {
+            add(application);
+        }
+        for (WithdrawalRequest request : requests) {
+            add(request);
+        }
+    }
+
+    /**
+     * Adds an application after every existing application of its student and internship
+     */
+    public synchronized void add(InternshipApplication application) {
+        byId.putIfAbsent(application.getApplicationId(), application);
+        byStudent.computeIfAbsent(application.getStudentId(), k -> new ArrayList<>(3)).add(application);
+        byOpportunity.computeIfAbsent(application.getOpportunityId(), k -> new ArrayList<>()).add(application);
+        if (application.getApplicationStatus() != ApplicationStatus.WITHDRAWN) {
+            activeByPair.merge(new Pair(application), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Updates the pair counts after an application is withdrawn (or restored)
+     */
+    public synchronized void statusChanged(InternshipApplication application, ApplicationStatus previousStatus) {
+        boolean wasActive = previousStatus != ApplicationStatus.WITHDRAWN;
+        boolean isActive = application.getApplicationStatus() != ApplicationStatus.WITHDRAWN;
+        if (isActive && !wasActive) {
+            activeByPair.merge(new Pair(application), 1, Integer::sum);
+        } else if (wasActive && !isActive) {
+            activeByPair.computeIfPresent(new Pair(application), (pair, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Adds a withdrawal request
+     */
+    public synchronized void add(WithdrawalRequest request) {
+        requestsByApplication.computeIfAbsent(request.getApplicationId(), k -> new ArrayList<>(1)).add(request);
+        requestsByStudent.computeIfAbsent(request.getStudentId(), k -> new ArrayList<>(1)).add(request);
+    }
+
+    /**
+     * Returns the application with the ID, or null
+     */
+    public synchronized InternshipApplication get(String applicationId) {
+        return byId.get(applicationId);
+    }
+
+    /**
+     * Returns whether the student has an application to the internship that is not withdrawn
+     */
+    public synchronized boolean hasActiveApplication(String studentId, String opportunityId) {
+        return activeByPair.containsKey(new Pair(studentId, opportunityId));
+    }
+
+    /**
+     * Returns the student's applications, in the order they were made
+     */
+    public synchronized List<InternshipApplication> forStudent(String studentId) {
+        return copy(byStudent.get(studentId));
+    }
+
+    /**
+     * Returns the applications to the internship, in the order they were made
+     */
+    public synchronized List<InternshipApplication> forOpportunity(String opportunityId) {
+        return copy(byOpportunity.get(opportunityId));
+    }
+
+    /**
+     * Returns the withdrawal requests for the application
+     */
+    public synchronized List<WithdrawalRequest> requestsFor(String applicationId) {
+        return copy(requestsByApplication.get(applicationId));
+    }
+
+    /**
+     * Returns the student's withdrawal requests
+     */
+    public synchronized List<WithdrawalRequest> requestsByStudent(String studentId) {
+        return copy(requestsByStudent.get(studentId));
+    }
+
+    private static <T> List<T> copy(List<T> list) {
+        return list == null ? new ArrayList<>() : new ArrayList<>(list);
+    }
+
+    /**
+     * Composite (student ID, internship ID) key
+     */
+    private static final class Pair {
+        private final String studentId;
+        private final String opportunityId;
+
+        Pair(InternshipApplication application) {
+            this(application.getStudentId(), application.getOpportunityId());
+        }
+
+        Pair(String studentId, String opportunityId) {
+            this.studentId = studentId;
+            this.opportunityId = opportunityId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Pair)) {
+                return false;
+            }
+            Pair other = (Pair) o;
+            return studentId.equals(other.studentId) && opportunityId.equals(other.opportunityId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(studentId, opportunityId);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package util;
+
+import entity.domain.InternshipApplication;
+import entity.domain.WithdrawalRequest;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Durable store for internship applications and withdrawal requests.
+ * <p>
+ * Changes are staged and appended to a log in batches (one flush per {@link #commit()}), so a
+ * change never rewrites the whole file. On load the log is folded into a map keyed by ID, where
+ * the latest record for each ID wins. Once superseded records outnumber live ones the log is
+ * rewritten with only the live records.
+ */
+public class ApplicationStore {
+
+    private static final int MIN_RECORDS_BEFORE_COMPACTION = 1000;
+
+    private final AppendLog applicationLog;
+    private final AppendLog withdrawalLog;
+    private final List<String[]> pendingApplications;
+    private final List<String[]> pendingWithdrawals;
+    private Map<String, InternshipApplication> applicationsById;
+    private Map<String, WithdrawalRequest> withdrawalsById;
+
+    /**
+     * Constructor for ApplicationStore
+     * @param applicationLogPath Path of the application log
+     * @param withdrawalLogPath Path of the withdrawal request log
+     */
+    public ApplicationStore(String applicationLogPath, String withdrawalLogPath) {
+        this.applicationLog = new AppendLog(applicationLogPath);
+        this.withdrawalLog = new AppendLog(withdrawalLogPath);
+        this.pendingApplications = new ArrayList<>();
+        this.pendingWithdrawals = new ArrayList<>();
+        this.applicationsById = new LinkedHashMap<>();
+        this.withdrawalsById = new LinkedHashMap<>();
+    }
+
+    /**
+     * Loads all applications, latest record per ID, in order of first submission
+     */
+    public synchronized List<InternshipApplication> loadApplications() {
+        applicationsById = new LinkedHashMap<>();
+        applicationLog.read(csv -> {
+            if (csv.getFieldCount() < 6) {
+                return;
+            }
+            try {
+                InternshipApplication application = FileHandler.readApplication(csv);
+                applicationsById.put(application.getApplicationId(), application);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                System.err.println("Error parsing application data: " + e.getMessage());
+            }
+        });
+
+        System.out.println("Loaded " + applicationsById.size() + " applications from " + applicationLog.getFilePath());
+        return new ArrayList<>(applicationsById.values());
+    }
+
+    /**
+     * Loads all withdrawal requests, latest record per ID, in order of first submission
+     */
+    public synchronized List<WithdrawalRequest> loadWithdrawalRequests() {
+        withdrawalsById = new LinkedHashMap<>();
+        withdrawalLog.read(csv -> {
+            if (csv.getFieldCount() < 8) {
+                return;
+            }
+            try {
+                WithdrawalRequest request = FileHandler.readWithdrawalRequest(csv);
+                withdrawalsById.put(request.getRequestId(), request);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                System.err.println("Error parsing withdrawal request data: " + e.getMessage());
+            }
+        });
+
+        System.out.println("Loaded " + withdrawalsById.size() + " withdrawal requests from " + withdrawalLog.getFilePath());
+        return new ArrayList<>(withdrawalsById.values());
+    }
+
+    /**
+     * Uses already-loaded records (e.g. from a snapshot) as the current state instead of reading the logs
+     */
+    public synchronized void restore(List<InternshipApplication> applications, List<WithdrawalRequest> withdrawalRequests) {
+        applicationsById = new LinkedHashMap<>();
+        for (InternshipApplication application : applications) {
+            applicationsById.put(application.getApplicationId(), application);
+        }
+        withdrawalsById = new LinkedHashMap<>();
+        for (WithdrawalRequest request : withdrawalRequests) {
+            withdrawalsById.put(request.getRequestId(), request);
+        }
+    }
+
+    /**
+     * Stages an application change; written on the next commit
+     */
+    public synchronized void stage(InternshipApplication application) {
+        applicationsById.put(application.getApplicationId(), application);
+        pendingApplications.add(FileHandler.applicationToFields(application));
+    }
+
+    /**
+     * Stages a withdrawal request change; written on the next commit
+     */
+    public synchronized void stage(WithdrawalRequest request) {
+        withdrawalsById.put(request.getRequestId(), request);
+        pendingWithdrawals.add(FileHandler.withdrawalRequestToFields(request));
+    }
+
+    /**
+     * Appends all staged changes to the logs
+     */
+    public synchronized void commit() {
+        applicationLog.appendAll(pendingApplications);
+        pendingApplications.clear();
+        withdrawalLog.appendAll(pendingWithdrawals);
+        pendingWithdrawals.clear();
+
+        compactIfNeeded();
+    }
+
+    /**
+     * Writes any staged changes and closes the logs
+     */
+    public synchronized void close() {
+        commit();
+        applicationLog.close();
+        withdrawalLog.close();
+    }
+
+    /**
+     * Returns the highest numeric suffix among stored application IDs (0 if none)
+     */
+    public synchronized int getMaxApplicationNumber(String prefix) {
+        return maxNumber(applicationsById.keySet(), prefix);
+    }
+
+    /**
+     * Returns the highest numeric suffix among stored withdrawal request IDs (0 if none)
+     */
+    public synchronized int getMaxWithdrawalNumber(String prefix) {
+        return maxNumber(withdrawalsById.keySet(), prefix);
+    }
+
+    /**
+     * Drops superseded records once they outnumber live records
+     */
+    private void compactIfNeeded() {
+        int liveApplications = applicationsById.size();
+        if (applicationLog.getRecordCount() > Math.max(MIN_RECORDS_BEFORE_COMPACTION, 2 * liveApplications)) {
+            List<String[]> records = new ArrayList<>(liveApplications);
+            for (InternshipApplication application : applicationsById.values()) {
+                records.add(FileHandler.applicationToFields(application));
+            }
+            applicationLog.rewrite(records);
+        }
+
+        int liveWithdrawals = withdrawalsById.size();
+        if (withdrawalLog.getRecordCount() > Math.max(MIN_RECORDS_BEFORE_COMPACTION, 2 * liveWithdrawals)) {
+            List<String[]> records = new ArrayList<>(liveWithdrawals);
+            for (WithdrawalRequest request : withdrawalsById.values()) {
+                records.add(FileHandler.withdrawalRequestToFields(request));
+            }
+            withdrawalLog.rewrite(records);
+        }
+    }
+
+    /**
+     * Finds the highest numeric suffix among IDs with the given prefix
+     */
+    private static int maxNumber(Iterable<String> ids, String prefix) {
+        int maxId = 0;
+        for (String id : ids) {
+            if (id.startsWith(prefix)) {
+                try {
+                    maxId = Math.max(maxId, Integer.parseInt(id.substring(prefix.length())));
+                } catch (NumberFormatException e) {
+                    // Skip invalid IDs
+                }
+            }
+        }
+        return maxId;
+    }
+}
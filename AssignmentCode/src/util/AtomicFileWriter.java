@@ -0,0 +1,158 @@
+package util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Crash-safe, group-committed writer for whole-file saves.
+ * <p>
+ * A save never touches the live file: the new contents go to a temporary file in the same
+ * directory, which is forced to disk and then atomically renamed over the original, so a crash
+ * leaves either the old or the new file, never a truncated one. The directory is forced after the
+ * rename, so the new file is still there after a power loss.
+ * <p>
+ * Saves to the same file that arrive within a short window are coalesced: each save replaces the
+ * pending contents, and one physical write covers all of them. Every caller gets a future that
+ * completes once a write containing its change is durable.
+ */
+public class AtomicFileWriter {
+
+    private static final long GROUP_COMMIT_WINDOW_MILLIS = 5;
+    private static final Map<String, AtomicFileWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "atomic-file-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Path path;
+    private final Object writeLock = new Object();
+    private String pendingContent;
+    private CompletableFuture<Void> pendingCompletion;
+    private volatile boolean lastWriteFailed;
+
+    private AtomicFileWriter(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the shared writer for a file
+     */
+    public static AtomicFileWriter forPath(String filePath) {
+        return WRITERS.computeIfAbsent(filePath, p -> new AtomicFileWriter(Paths.get(p)));
+    }
+
+    /**
+     * Queues new contents for the file.
+     * <p>
+     * The contents are rendered on the calling thread while holding this writer's lock, so
+     * concurrent saves are queued in the order their state was captured and the last one wins.
+     * @return future completed when the contents (or later contents) are durable on disk
+     */
+    public synchronized CompletableFuture<Void> submit(Supplier<String> render) {
+        pendingContent = render.get();
+        if (pendingCompletion == null) {
+            pendingCompletion = new CompletableFuture<>();
+            FLUSHER.schedule(this::flush, GROUP_COMMIT_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return pendingCompletion;
+    }
+
+    /**
+     * Writes any pending contents of every file now, on the calling thread
+     * @return true if the latest write of every file succeeded
+     */
+    public static boolean flushAll() {
+        boolean saved = true;
+        for (AtomicFileWriter writer : WRITERS.values()) {
+            writer.flush();
+            saved &= !writer.lastWriteFailed;
+        }
+        return saved;
+    }
+
+    /**
+     * Writes the pending contents, if any, and completes every caller waiting on them
+     */
+    private void flush() {
+        // Physical writes to one file never overlap, and the contents are taken inside the write
+        // lock so an older group can never land after a newer one. Saves arriving meanwhile form
+        // the next group.
+        synchronized (writeLock) {
+            String content;
+            CompletableFuture<Void> completion;
+            synchronized (this) {
+                content = pendingContent;
+                completion = pendingCompletion;
+                pendingContent = null;
+                pendingCompletion = null;
+            }
+            if (completion == null) {
+                return;
+            }
+
+            try {
+                replace(path, content.getBytes(StandardCharsets.UTF_8));
+                lastWriteFailed = false;
+                completion.complete(null);
+            } catch (IOException e) {
+                System.err.println("Error writing file " + path + ": " + e.getMessage());
+                lastWriteFailed = true;
+                completion.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Durably replaces a file: writes a forced temporary file, atomically renames it over the target
+     * and forces the directory entry
+     */
+    public static void replace(Path target, byte[] bytes) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces a directory's entries to disk, making a rename inside it durable
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return; // Directories cannot be opened on this platform (Windows), so there is nothing to force
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+}
\ No newline at end of file
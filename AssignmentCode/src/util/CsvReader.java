@@ -0,0 +1,411 @@
+package util;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Streaming CSV tokenizer shared by all CSV loaders.
+ * <p>
+ * Reads records one at a time from a {@link Reader} or an in-memory {@link CharBuffer} and
+ * handles RFC-4180 quoting, including escaped quotes and line breaks inside quoted fields.
+ * The current record is kept in reusable buffers and each field is exposed as a trimmed
+ * {@link CharSequence} slice, so reading a row does not allocate unless a field is turned
+ * into a String.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int EOF = -1;
+
+    private final Reader source;
+    private final CharBuffer input;
+    private char[] record;
+    private int recordLength;
+    private int[] fieldStart;
+    private int[] fieldEnd;
+    private Field[] fields;
+    private int fieldCount;
+
+    /**
+     * Creates a tokenizer that streams from a reader
+     */
+    public CsvReader(Reader source) {
+        this.source = source;
+        this.input = CharBuffer.allocate(BUFFER_SIZE);
+        this.input.flip(); // Start empty, filled on first read
+        init();
+    }
+
+    /**
+     * Creates a tokenizer over characters already in memory
+     */
+    public CsvReader(CharBuffer input) {
+        this.source = null;
+        this.input = input;
+        init();
+    }
+
+    /**
+     * Opens a UTF-8 CSV file for reading
+     */
+    public static CsvReader open(String filePath) throws IOException {
+        return new CsvReader(new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Allocates the reusable record buffers
+     */
+    private void init() {
+        this.record = new char[256];
+        this.fieldStart = new int[16];
+        this.fieldEnd = new int[16];
+        this.fields = new Field[16];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = new Field(i);
+        }
+    }
+
+    /**
+     * Advances to the next record
+     * @return false once there are no more records
+     */
+    public boolean next() throws IOException {
+        recordLength = 0;
+        fieldCount = 0;
+
+        int c = read();
+        if (c == EOF) {
+            return false;
+        }
+
+        boolean inQuotes = false;
+        int start = 0;
+
+        while (true) {
+            if (c == EOF) {
+                break;
+            }
+
+            if (inQuotes) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        append('"'); // Escaped quote
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    append((char) c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                endField(start);
+                start = recordLength;
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+                break;
+            } else {
+                append((char) c);
+            }
+
+            c = read();
+        }
+
+        endField(start);
+        return true;
+    }
+
+    /**
+     * Returns number of fields in the current record
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Checks if the current record is an empty line
+     */
+    public boolean isBlankRecord() {
+        return fieldCount == 1 && fieldStart[0] == fieldEnd[0];
+    }
+
+    /**
+     * Returns a trimmed view of a field; only valid until the next call to {@link #next()}
+     */
+    public CharSequence getField(int index) {
+        checkIndex(index);
+        return fields[index];
+    }
+
+    /**
+     * Returns a trimmed field as a String
+     */
+    public String getString(int index) {
+        checkIndex(index);
+        return new String(record, fieldStart[index], fieldEnd[index] - fieldStart[index]);
+    }
+
+    /**
+     * Parses a field as an int without creating a String
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        int start = fieldStart[index];
+        int end = fieldEnd[index];
+        if (start == end) {
+            throw new NumberFormatException("Empty number in column " + (index + 1));
+        }
+
+        boolean negative = record[start] == '-';
+        int i = (negative || record[start] == '+') ? start + 1 : start;
+        if (i == end) {
+            throw new NumberFormatException("For input string: \"" + getString(index) + "\"");
+        }
+
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = record[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \"" + getString(index) + "\"");
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw new NumberFormatException("For input string: \"" + getString(index) + "\"");
+            }
+        }
+
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("For input string: \"" + getString(index) + "\"");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses a field as a boolean ("true", ignoring case, is true; anything else is false)
+     */
+    public boolean getBoolean(int index) {
+        return fieldEqualsIgnoreCase(index, "true");
+    }
+
+    /**
+     * Checks if a trimmed field equals the given text exactly, without allocating
+     */
+    public boolean fieldEquals(int index, String text) {
+        checkIndex(index);
+        int start = fieldStart[index];
+        if (text == null || fieldEnd[index] - start != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (record[start + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a trimmed field equals the given text, ignoring case
+     */
+    public boolean fieldEqualsIgnoreCase(int index, String text) {
+        checkIndex(index);
+        int start = fieldStart[index];
+        if (fieldEnd[index] - start != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char a = record[start + i];
+            char b = text.charAt(i);
+            if (a != b && Character.toUpperCase(a) != Character.toUpperCase(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a field in yyyy-MM-dd format as a date
+     */
+    public LocalDate getDate(int index) {
+        checkIndex(index);
+        int start = fieldStart[index];
+        if (fieldEnd[index] - start == 10 && record[start + 4] == '-' && record[start + 7] == '-') {
+            int year = digits(start, 4);
+            int month = digits(start + 5, 2);
+            int day = digits(start + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        return LocalDate.parse(getString(index)); // Slow path, reports the parse error
+    }
+
+    /**
+     * Copies the current record into a new array of Strings
+     */
+    public String[] toArray() {
+        String[] values = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            values[i] = getString(i);
+        }
+        return values;
+    }
+
+    /**
+     * Closes the underlying reader
+     */
+    @Override
+    public void close() throws IOException {
+        if (source != null) {
+            source.close();
+        }
+    }
+
+    /**
+     * Reads a fixed number of decimal digits, or returns -1 if any is not a digit
+     */
+    private int digits(int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = record[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Records the trimmed bounds of the field that started at the given offset
+     */
+    private void endField(int start) {
+        int end = recordLength;
+        while (start < end && record[start] <= ' ') {
+            start++;
+        }
+        while (end > start && record[end - 1] <= ' ') {
+            end--;
+        }
+
+        if (fieldCount == fieldStart.length) {
+            int size = fieldCount * 2;
+            fieldStart = Arrays.copyOf(fieldStart, size);
+            fieldEnd = Arrays.copyOf(fieldEnd, size);
+            fields = Arrays.copyOf(fields, size);
+            for (int i = fieldCount; i < size; i++) {
+                fields[i] = new Field(i);
+            }
+        }
+
+        fieldStart[fieldCount] = start;
+        fieldEnd[fieldCount] = end;
+        fieldCount++;
+    }
+
+    /**
+     * Appends a character to the current record
+     */
+    private void append(char c) {
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, recordLength * 2);
+        }
+        record[recordLength++] = c;
+    }
+
+    /**
+     * Returns the next character, or EOF
+     */
+    private int read() throws IOException {
+        if (!input.hasRemaining() && !fill()) {
+            return EOF;
+        }
+        return input.get();
+    }
+
+    /**
+     * Returns the next character without consuming it, or EOF
+     */
+    private int peek() throws IOException {
+        if (!input.hasRemaining() && !fill()) {
+            return EOF;
+        }
+        return input.get(input.position());
+    }
+
+    /**
+     * Refills the input buffer from the reader
+     */
+    private boolean fill() throws IOException {
+        if (source == null) {
+            return false;
+        }
+        input.clear();
+        int n;
+        do {
+            n = source.read(input);
+        } while (n == 0);
+        input.flip();
+        return n > 0;
+    }
+
+    /**
+     * Checks that a field index is within the current record
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("Column " + index + " out of range, record has " + fieldCount);
+        }
+    }
+
+    /**
+     * Converts the current record into an object (or null to skip the record)
+     */
+    public interface RowMapper<T> {
+        T map(CsvReader csv);
+    }
+
+    /**
+     * Reusable view of one field of the current record
+     */
+    private class Field implements CharSequence {
+        private final int index;
+
+        Field(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int length() {
+            return fieldEnd[index] - fieldStart[index];
+        }
+
+        @Override
+        public char charAt(int i) {
+            return record[fieldStart[index] + i];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(record, fieldStart[index] + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return getString(index);
+        }
+    }
+}
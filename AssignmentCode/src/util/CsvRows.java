@@ -0,0 +1,96 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Rendered CSV lines of a dataset, kept in dataset order and updated as records change.
+ * <p>
+ * Each record is rendered on the thread that changed it, so a background save only joins
+ * immutable lines and never reads live records while they are being modified. The rows are
+ * built from the dataset on first use; changes reported before that are ignored because the
+ * build renders the current state anyway.
+ */
+public class CsvRows<T> {
+
+    private final Function<T, String[]> toFields;
+    private Map<T, Long> positions; // Record -> key of its line (null until built)
+    private final TreeMap<Long, String> lines = new TreeMap<>();
+    private long nextPosition;
+
+    /**
+     * Constructor for CsvRows
+     * @param toFields Converts a record to its CSV fields
+     */
+    public CsvRows(Function<T, String[]> toFields) {
+        this.toFields = toFields;
+    }
+
+    /**
+     * Renders every record of the dataset unless the rows are already built
+     * @param records Records in dataset order
+     */
+    public synchronized void buildIfNeeded(List<T> records) {
+        if (positions != null) {
+            return;
+        }
+        positions = new IdentityHashMap<>(Math.max(16, records.size() * 4 / 3 + 1));
+        for (T record : records) {
+            put(record);
+        }
+    }
+
+    /**
+     * Returns true once the rows have been built
+     */
+    public synchronized boolean isBuilt() {
+        return positions != null;
+    }
+
+    /**
+     * Forgets every line; the rows are built again on next use
+     */
+    public synchronized void reset() {
+        positions = null;
+        lines.clear();
+    }
+
+    /**
+     * Renders a new or changed record (new records go after all others)
+     */
+    public synchronized void put(T record) {
+        if (positions == null) {
+            return;
+        }
+        Long position = positions.get(record);
+        if (position == null) {
+            position = nextPosition++;
+            positions.put(record, position);
+        }
+        lines.put(position, FileHandler.toCSVLine(toFields.apply(record)));
+    }
+
+    /**
+     * Drops the line of a removed record
+     */
+    public synchronized void remove(T record) {
+        if (positions == null) {
+            return;
+        }
+        Long position = positions.remove(record);
+        if (position != null) {
+            lines.remove(position);
+        }
+    }
+
+    /**
+     * Returns a copy of the current lines in dataset order
+     */
+    public synchronized List<String> lines() {
+        return new ArrayList<>(lines.values());
+    }
+}
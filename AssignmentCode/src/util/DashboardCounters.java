@@ -0,0 +1,262 @@
+package util;
+
+import entity.domain.InternshipApplication;
+import entity.domain.InternshipOpportunity;
+import entity.domain.WithdrawalRequest;
+import enums.ApplicationStatus;
+import enums.InternshipLevel;
+import enums.InternshipStatus;
+import enums.Major;
+import enums.RequestStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live counters for the career center dashboard, maintained by deltas instead of recounted.
+ * <p>
+ * Counts postings by status x major x level, filled and total slots per company, applications by
+ * status and pending withdrawal requests. Each internship's last counted values are kept, so a
+ * change notification subtracts the old contribution and adds the new one; application and
+ * withdrawal notifications carry their previous status. Every read is a constant-time lookup
+ * (or a sum over the bounded number of enum combinations).
+ */
+public class DashboardCounters {
+
+    private static final int STATUSES = InternshipStatus.values().length;
+    private static final int MAJORS = Major.values().length;
+    private static final int LEVELS = InternshipLevel.values().length;
+
+    private final int[] postings = new int[STATUSES * MAJORS * LEVELS];
+    private final Map<InternshipOpportunity, Counted> countedAs = new IdentityHashMap<>();
+    private final Map<String, CompanySlots> slotsByCompany = new HashMap<>(); // By case-folded name
+    private final int[] applications = new int[ApplicationStatus.values().length];
+    private int pendingWithdrawals;
+
+    /**
+     * Recounts every posting
+     */
+    public synchronized void rebuildPostings(List<InternshipOpportunity> internships) {
+        Arrays.fill(postings, 0);
+        countedAs.clear();
+        slotsByCompany.clear();
+        for (InternshipOpportunity internship : internships) {
+            postingAdded(internship);
+        }
+    }
+
+    /**
+     * Counts a new posting
+     */
+    public synchronized void postingAdded(InternshipOpportunity internship) {
+        if (countedAs.containsKey(internship)) {
+            return;
+        }
+        Counted counted = new Counted(internship);
+        countedAs.put(internship, counted);
+        apply(counted, 1);
+    }
+
+    /**
+     * Stops counting a posting
+     */
+    public synchronized void postingRemoved(InternshipOpportunity internship) {
+        Counted counted = countedAs.remove(internship);
+        if (counted != null) {
+            apply(counted, -1);
+        }
+    }
+
+    /**
+     * Moves a posting's contribution to its current status, major, level, company and slots
+     */
+    public synchronized void postingChanged(InternshipOpportunity internship) {
+        Counted before = countedAs.get(internship);
+        if (before == null) {
+            return;
+        }
+        Counted after = new Counted(internship);
+        if (after.sameAs(before)) {
+            return;
+        }
+        apply(before, -1);
+        apply(after, 1);
+        countedAs.put(internship, after);
+    }
+
+    /**
+     * Recounts every application and withdrawal request
+     */
+    public synchronized void rebuildApplications(List<InternshipApplication> allApplications,
+                                                 List<WithdrawalRequest> withdrawalRequests) {
+        Arrays.fill(applications, 0);
+        pendingWithdrawals = 0;
+        for (InternshipApplication application : allApplications) {
+            applicationAdded(application);
+        }
+        for (WithdrawalRequest request : withdrawalRequests) {
+            withdrawalRequestAdded(request);
+        }
+    }
+
+    /**
+     * Counts a new application
+     */
+    public synchronized void applicationAdded(InternshipApplication application) {
+        applications[application.getApplicationStatus().ordinal()]++;
+    }
+
+    /**
+     * Moves an application from its previous status to its current one
+     */
+    public synchronized void applicationChanged(InternshipApplication application, ApplicationStatus previousStatus) {
+        applications[previousStatus.ordinal()]--;
+        applications[application.getApplicationStatus().ordinal()]++;
+    }
+
+    /**
+     * Counts a new withdrawal request
+     */
+    public synchronized void withdrawalRequestAdded(WithdrawalRequest request) {
+        if (request.getRequestStatus() == RequestStatus.PENDING) {
+            pendingWithdrawals++;
+        }
+    }
+
+    /**
+     * Updates the pending count when a withdrawal request changes status
+     */
+    public synchronized void withdrawalRequestChanged(WithdrawalRequest request, RequestStatus previousStatus) {
+        if (previousStatus == RequestStatus.PENDING) {
+            pendingWithdrawals--;
+        }
+        if (request.getRequestStatus() == RequestStatus.PENDING) {
+            pendingWithdrawals++;
+        }
+    }
+
+    /**
+     * Returns number of postings with every given value (null for any)
+     */
+    public synchronized int countPostings(InternshipStatus status, Major major, InternshipLevel level) {
+        int count = 0;
+        for (int s = 0; s < STATUSES; s++) {
+            if (status != null && status.ordinal() != s) {
+                continue;
+            }
+            for (int m = 0; m < MAJORS; m++) {
+                if (major != null && major.ordinal() != m) {
+                    continue;
+                }
+                for (int l = 0; l < LEVELS; l++) {
+                    if (level == null || level.ordinal() == l) {
+                        count += postings[cell(s, m, l)];
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the companies with at least one posting, as first named, in no particular order
+     */
+    public synchronized List<String> getCompanies() {
+        List<String> companies = new ArrayList<>(slotsByCompany.size());
+        for (CompanySlots slots : slotsByCompany.values()) {
+            companies.add(slots.name);
+        }
+        return companies;
+    }
+
+    /**
+     * Returns filled slots over all of a company's postings (name ignoring case)
+     */
+    public synchronized int getFilledSlots(String company) {
+        CompanySlots slots = slotsByCompany.get(TitleIndex.collationKey(company));
+        return slots == null ? 0 : slots.filled;
+    }
+
+    /**
+     * Returns total slots over all of a company's postings (name ignoring case)
+     */
+    public synchronized int getTotalSlots(String company) {
+        CompanySlots slots = slotsByCompany.get(TitleIndex.collationKey(company));
+        return slots == null ? 0 : slots.total;
+    }
+
+    /**
+     * Returns number of applications with the status
+     */
+    public synchronized int countApplications(ApplicationStatus status) {
+        return applications[status.ordinal()];
+    }
+
+    /**
+     * Returns number of withdrawal requests waiting for review
+     */
+    public synchronized int getPendingWithdrawalCount() {
+        return pendingWithdrawals;
+    }
+
+    private void apply(Counted counted, int sign) {
+        postings[cell(counted.status, counted.major, counted.level)] += sign;
+        CompanySlots slots = slotsByCompany.computeIfAbsent(counted.companyKey, k -> new CompanySlots(counted.company));
+        slots.postings += sign;
+        slots.filled += sign * counted.filled;
+        slots.total += sign * counted.total;
+        if (slots.postings == 0) {
+            slotsByCompany.remove(counted.companyKey);
+        }
+    }
+
+    private static int cell(int status, int major, int level) {
+        return (status * MAJORS + major) * LEVELS + level;
+    }
+
+    /**
+     * Values a posting was last counted with
+     */
+    private static final class Counted {
+        private final int status;
+        private final int major;
+        private final int level;
+        private final String company;
+        private final String companyKey;
+        private final int filled;
+        private final int total;
+
+        Counted(InternshipOpportunity internship) {
+            this.status = internship.getStatus().ordinal();
+            this.major = internship.getPreferredMajor().ordinal();
+            this.level = internship.getLevel().ordinal();
+            this.company = internship.getCompanyName();
+            this.companyKey = TitleIndex.collationKey(company);
+            this.filled = internship.getFilledSlots();
+            this.total = internship.getTotalSlots();
+        }
+
+        boolean sameAs(Counted other) {
+            return status == other.status && major == other.major && level == other.level
+                && companyKey.equals(other.companyKey) && filled == other.filled && total == other.total;
+        }
+    }
+
+    /**
+     * Slot totals of one company
+     */
+    private static final class CompanySlots {
+        private final String name;
+        private int postings;
+        private int filled;
+        private int total;
+
+        CompanySlots(String name) {
+            this.name = name;
+        }
+    }
+}
\ No newline at end of file
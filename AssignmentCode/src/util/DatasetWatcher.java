@@ -0,0 +1,130 @@
+package util;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a data directory and runs a reload callback when one of the registered files changes.
+ * <p>
+ * Editors and copy tools often produce several events for one save, so events are collected
+ * until the directory has been quiet for a short period, and each changed file is then reloaded
+ * once. Files that are not registered (including temporary files) are ignored.
+ */
+public class DatasetWatcher {
+
+    private static final long QUIET_PERIOD_MILLIS = 250;
+
+    private final Path directory;
+    private final Map<String, Runnable> reloaders = new ConcurrentHashMap<>();
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * Constructor for DatasetWatcher
+     * @param directory Directory containing the data files
+     */
+    public DatasetWatcher(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * Registers the callback that reloads a file (call before {@link #start()})
+     * @param fileName Name of the file within the watched directory
+     */
+    public void watch(String fileName, Runnable reload) {
+        reloaders.put(fileName, reload);
+    }
+
+    /**
+     * Starts watching on a background daemon thread
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            System.err.println("Error watching " + directory + " for changes: " + e.getMessage());
+            return;
+        }
+
+        thread = new Thread(this::run, "dataset-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching
+     */
+    public synchronized void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                System.err.println("Error closing file watcher: " + e.getMessage());
+            }
+            watchService = null;
+            thread = null;
+        }
+    }
+
+    /**
+     * Waits for changes, then reloads each changed file once the directory is quiet
+     */
+    private void run() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                Set<String> changed = new LinkedHashSet<>();
+                collect(service.take(), changed);
+
+                // Keep collecting until no event arrives for the quiet period
+                WatchKey key;
+                while ((key = service.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(key, changed);
+                }
+
+                for (String fileName : changed) {
+                    try {
+                        reloaders.get(fileName).run();
+                    } catch (RuntimeException e) {
+                        System.err.println("Error reloading " + fileName + ": " + e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Watcher closed
+        }
+    }
+
+    /**
+     * Adds the registered files named in a key's events and re-arms the key
+     */
+    private void collect(WatchKey key, Set<String> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (context instanceof Path) {
+                String fileName = ((Path) context).getFileName().toString();
+                if (reloaders.containsKey(fileName)) {
+                    changed.add(fileName);
+                }
+            }
+        }
+        key.reset();
+    }
+}
\ No newline at end of file
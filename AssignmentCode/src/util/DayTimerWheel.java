@@ -0,0 +1,119 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hashed timer wheel with one-day ticks.
+ * <p>
+ * A task due on day D goes in slot D mod {@value #SLOTS}; a tick only looks at the slot of the
+ * day being entered and runs the tasks due that day, leaving tasks for later laps of the wheel in
+ * place. Moving several days at once runs the due tasks in day order (tasks due the same day in
+ * the order they were scheduled). Not thread-safe; the owner synchronizes.
+ */
+public class DayTimerWheel {
+
+    private static final int SLOTS = 64;
+
+    private final List<List<Timer>> slots = new ArrayList<>(SLOTS);
+    private long currentDay; // Last day whose tasks have run
+    private int pending;
+
+    /**
+     * Constructor for DayTimerWheel
+     * @param today Current day (epoch day); tasks due on or before it are not accepted
+     */
+    public DayTimerWheel(long today) {
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentDay = today;
+    }
+
+    /**
+     * Schedules a task for the start of a day
+     * @return false if the day has already started (the task is not scheduled)
+     */
+    public boolean schedule(long day, Runnable task) {
+        if (day <= currentDay) {
+            return false;
+        }
+        slots.get(slot(day)).add(new Timer(day, task));
+        pending++;
+        return true;
+    }
+
+    /**
+     * Enters every day up to and including today, running the tasks due on each
+     */
+    public void advanceTo(long today) {
+        if (today - currentDay >= SLOTS) {
+            // A full lap or more: take every due task from every slot at once
+            List<Timer> due = new ArrayList<>();
+            for (List<Timer> slot : slots) {
+                takeDue(slot, today, due);
+            }
+            due.sort((a, b) -> Long.compare(a.day, b.day));
+            currentDay = today;
+            run(due);
+            return;
+        }
+        while (currentDay < today) {
+            currentDay++;
+            List<Timer> due = new ArrayList<>();
+            takeDue(slots.get(slot(currentDay)), currentDay, due);
+            run(due);
+        }
+    }
+
+    /**
+     * Drops every task and restarts from the given day
+     */
+    public void reset(long today) {
+        for (List<Timer> slot : slots) {
+            slot.clear();
+        }
+        currentDay = today;
+        pending = 0;
+    }
+
+    /**
+     * Returns the last day whose tasks have run
+     */
+    public long getCurrentDay() {
+        return currentDay;
+    }
+
+    /**
+     * Returns number of scheduled tasks not yet run
+     */
+    public int getPendingCount() {
+        return pending;
+    }
+
+    private void takeDue(List<Timer> slot, long today, List<Timer> due) {
+        int before = due.size();
+        slot.removeIf(timer -> timer.day <= today && due.add(timer));
+        pending -= due.size() - before;
+    }
+
+    private void run(List<Timer> due) {
+        for (Timer timer : due) {
+            timer.task.run();
+        }
+    }
+
+    private static int slot(long day) {
+        return (int) Math.floorMod(day, (long) SLOTS);
+    }
+
+    private static final class Timer {
+        private final long day;
+        private final Runnable task;
+
+        Timer(long day, Runnable task) {
+            this.day = day;
+            this.task = task;
+        }
+    }
+}
\ No newline at end of file
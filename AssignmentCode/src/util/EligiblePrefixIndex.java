@@ -0,0 +1,129 @@
+package util;
+
+import entity.domain.InternshipOpportunity;
+import enums.Major;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Prefix (typeahead) indexes over only the internships each kind of student may browse.
+ * <p>
+ * Uses the buckets of {@link EligibleViewCache}: one {@link PrefixIndex} per (major, year band)
+ * holding just the postings a student in that bucket can see. A student's lookup walks only
+ * names that have such a posting, so it never visits hidden, unapproved or ineligible ones.
+ * Unlike the cached views, the buckets are kept up to date as postings change.
+ */
+public class EligiblePrefixIndex {
+
+    private final Function<InternshipOpportunity, String> nameOf;
+    private final List<PrefixIndex<InternshipOpportunity>> buckets = new ArrayList<>();
+    private final Map<InternshipOpportunity, Integer> placement = new IdentityHashMap<>();
+
+    /**
+     * Constructor for EligiblePrefixIndex
+     * @param nameOf Returns the name an internship is indexed under, such as its title
+     */
+    public EligiblePrefixIndex(Function<InternshipOpportunity, String> nameOf) {
+        this.nameOf = nameOf;
+        for (int i = 0; i < Major.values().length * EligibleViewCache.BANDS; i++) {
+            buckets.add(new PrefixIndex<>());
+        }
+    }
+
+    /**
+     * Returns up to limit distinct names starting with the prefix that have an internship the
+     * student may browse, alphabetically
+     */
+    public List<String> complete(Major major, int yearOfStudy, String prefix, int limit) {
+        return bucket(major, yearOfStudy).complete(prefix, limit);
+    }
+
+    /**
+     * Returns up to limit internships the student may browse whose names start with the prefix,
+     * alphabetically by name
+     */
+    public List<InternshipOpportunity> withPrefix(Major major, int yearOfStudy, String prefix, int limit) {
+        return bucket(major, yearOfStudy).withPrefix(prefix, internship -> true, limit);
+    }
+
+    /**
+     * Re-indexes every internship into the buckets it belongs to
+     */
+    public synchronized void rebuild(List<InternshipOpportunity> internships) {
+        for (PrefixIndex<InternshipOpportunity> bucket : buckets) {
+            bucket.clear();
+        }
+        placement.clear();
+        for (InternshipOpportunity internship : internships) {
+            added(internship);
+        }
+    }
+
+    /**
+     * Indexes a new internship in the buckets it belongs to
+     */
+    public synchronized void added(InternshipOpportunity internship) {
+        int now = EligibleViewCache.placementOf(internship);
+        placement.put(internship, now);
+        putInto(now, internship);
+    }
+
+    /**
+     * Removes an internship from every bucket
+     */
+    public synchronized void removed(InternshipOpportunity internship) {
+        Integer before = placement.remove(internship);
+        if (before != null) {
+            removeFrom(before, internship);
+        }
+    }
+
+    /**
+     * Moves an internship to the buckets it now belongs to and re-indexes it under its current name
+     */
+    public synchronized void changed(InternshipOpportunity internship) {
+        Integer before = placement.get(internship);
+        if (before == null) {
+            return;
+        }
+        int now = EligibleViewCache.placementOf(internship);
+        if (now != before) {
+            placement.put(internship, now);
+            removeFrom(before, internship);
+        }
+        putInto(now, internship); // No-op unless it is new to a bucket or was renamed
+    }
+
+    private PrefixIndex<InternshipOpportunity> bucket(Major major, int yearOfStudy) {
+        return buckets.get(EligibleViewCache.slotOf(major, yearOfStudy));
+    }
+
+    private void putInto(int placementCode, InternshipOpportunity internship) {
+        if (placementCode == EligibleViewCache.NOT_LISTED) {
+            return;
+        }
+        String name = nameOf.apply(internship);
+        int major = placementCode >>> EligibleViewCache.BANDS;
+        for (int band = 0; band < EligibleViewCache.BANDS; band++) {
+            if ((placementCode & (1 << band)) != 0) {
+                buckets.get(major * EligibleViewCache.BANDS + band).put(internship, name);
+            }
+        }
+    }
+
+    private void removeFrom(int placementCode, InternshipOpportunity internship) {
+        if (placementCode == EligibleViewCache.NOT_LISTED) {
+            return;
+        }
+        int major = placementCode >>> EligibleViewCache.BANDS;
+        for (int band = 0; band < EligibleViewCache.BANDS; band++) {
+            if ((placementCode & (1 << band)) != 0) {
+                buckets.get(major * EligibleViewCache.BANDS + band).remove(internship);
+            }
+        }
+    }
+}
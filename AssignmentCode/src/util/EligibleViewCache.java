@@ -0,0 +1,143 @@
+package util;
+
+import entity.domain.InternshipOpportunity;
+import enums.InternshipLevel;
+import enums.InternshipStatus;
+import enums.Major;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Materialized views of the internships each kind of student may browse.
+ * <p>
+ * What a student sees depends only on their major and on whether they are in year 3 or above,
+ * so there is one ready-made list per (major, year band). A list is built on first use and kept
+ * until a posting entering or leaving it changes; only the buckets that posting belonged to
+ * before or after the change are dropped.
+ */
+public class EligibleViewCache {
+
+    static final int BANDS = 2;
+    static final int JUNIOR = 0; // Years 1-2: basic internships only
+    static final int SENIOR = 1; // Year 3 and above: every level
+    static final int NOT_LISTED = -1;
+
+    private final BiFunction<Major, Boolean, List<InternshipOpportunity>> loader;
+    private final List<List<InternshipOpportunity>> views;
+    private final Map<InternshipOpportunity, Integer> placement = new IdentityHashMap<>();
+
+    /**
+     * Constructor for EligibleViewCache
+     * @param loader Returns the internships a student of the major may browse (true for year 3 and
+     * above) in catalog order; must agree with the placement rules of this class
+     */
+    public EligibleViewCache(BiFunction<Major, Boolean, List<InternshipOpportunity>> loader) {
+        this.loader = loader;
+        this.views = new ArrayList<>(Collections.nCopies(Major.values().length * BANDS, null));
+    }
+
+    /**
+     * Returns the read-only list of internships a student with this major and year may browse
+     */
+    public synchronized List<InternshipOpportunity> get(Major major, int yearOfStudy) {
+        int slot = slotOf(major, yearOfStudy);
+        List<InternshipOpportunity> view = views.get(slot);
+        if (view == null) {
+            view = build(major, slot % BANDS);
+            views.set(slot, view);
+        }
+        return view;
+    }
+
+    /**
+     * Forgets every view and re-reads the placement of each internship
+     */
+    public synchronized void rebuild(List<InternshipOpportunity> internships) {
+        Collections.fill(views, null);
+        placement.clear();
+        for (InternshipOpportunity internship : internships) {
+            placement.put(internship, placementOf(internship));
+        }
+    }
+
+    /**
+     * Drops the views a new internship appears in
+     */
+    public synchronized void added(InternshipOpportunity internship) {
+        int now = placementOf(internship);
+        placement.put(internship, now);
+        invalidate(now);
+    }
+
+    /**
+     * Drops the views a removed internship appeared in
+     */
+    public synchronized void removed(InternshipOpportunity internship) {
+        Integer before = placement.remove(internship);
+        if (before != null) {
+            invalidate(before);
+        }
+    }
+
+    /**
+     * Drops the views an internship entered or left; views are kept if its placement is unchanged
+     */
+    public synchronized void changed(InternshipOpportunity internship) {
+        Integer before = placement.get(internship);
+        if (before == null) {
+            return;
+        }
+        int now = placementOf(internship);
+        if (now != before) {
+            placement.put(internship, now);
+            invalidate(before);
+            invalidate(now);
+        }
+    }
+
+    /**
+     * Builds the view for one bucket
+     */
+    private List<InternshipOpportunity> build(Major major, int band) {
+        return Collections.unmodifiableList(new ArrayList<>(loader.apply(major, band == SENIOR)));
+    }
+
+    /**
+     * Returns the bucket of a student with this major and year
+     */
+    static int slotOf(Major major, int yearOfStudy) {
+        return major.ordinal() * BANDS + (yearOfStudy >= 3 ? SENIOR : JUNIOR);
+    }
+
+    /**
+     * Encodes which views an internship appears in: its major and a mask of year bands,
+     * or NOT_LISTED if no student can browse it
+     */
+    static int placementOf(InternshipOpportunity internship) {
+        if (!internship.isVisible() || internship.getStatus() != InternshipStatus.APPROVED) {
+            return NOT_LISTED;
+        }
+        int bands = internship.getLevel() == InternshipLevel.BASIC ? (1 << JUNIOR) | (1 << SENIOR) : 1 << SENIOR;
+        return internship.getPreferredMajor().ordinal() << BANDS | bands;
+    }
+
+    /**
+     * Drops every view named by a placement
+     */
+    private void invalidate(int placementCode) {
+        if (placementCode == NOT_LISTED) {
+            return;
+        }
+        int major = placementCode >>> BANDS;
+        for (int band = 0; band < BANDS; band++) {
+            if ((placementCode & (1 << band)) != 0) {
+                views.set(major * BANDS + band, null);
+            }
+        }
+    }
+}
\ No newline at end of file
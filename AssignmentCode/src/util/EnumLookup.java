@@ -0,0 +1,112 @@
+package util;
+
+import java.util.function.Function;
+
+/**
+ * Precomputed case-insensitive lookup table from text to enum constant.
+ * <p>
+ * Each constant is reachable by its name and by any number of aliases (e.g. display names).
+ * Lookups hash the characters directly, so a CSV field slice can be decoded without creating
+ * a String or relying on {@code valueOf} exceptions.
+ */
+public class EnumLookup<E extends Enum<E>> {
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int mask;
+
+    /**
+     * Builds the table for every constant of the given enum
+     * @param type Enum class
+     * @param aliases Extra names each constant can be looked up by
+     */
+    @SafeVarargs
+    public EnumLookup(Class<E> type, Function<E, String>... aliases) {
+        E[] constants = type.getEnumConstants();
+        int entries = constants.length * (aliases.length + 1);
+
+        int capacity = Integer.highestOneBit(Math.max(entries * 4 - 1, 1)) << 1;
+        this.keys = new String[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+
+        for (E constant : constants) {
+            put(constant.name(), constant);
+            for (Function<E, String> alias : aliases) {
+                put(alias.apply(constant), constant);
+            }
+        }
+    }
+
+    /**
+     * Returns the constant matching the text (ignoring case), or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public E get(CharSequence text) {
+        int slot = hash(text) & mask;
+        while (keys[slot] != null) {
+            if (matches(keys[slot], text)) {
+                return (E) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the constant matching the text, or throws if there is none
+     */
+    public E parse(CharSequence text) {
+        E value = get(text);
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown value: " + text);
+        }
+        return value;
+    }
+
+    /**
+     * Inserts a key unless an equal key is already present
+     */
+    private void put(String key, E value) {
+        if (key == null) {
+            return;
+        }
+        int slot = hash(key) & mask;
+        while (keys[slot] != null) {
+            if (matches(keys[slot], key)) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    /**
+     * Case-insensitive hash of a character sequence
+     */
+    private static int hash(CharSequence text) {
+        int h = 0;
+        for (int i = 0; i < text.length(); i++) {
+            h = 31 * h + Character.toUpperCase(text.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Case-insensitive comparison of a key against a character sequence
+     */
+    private static boolean matches(String key, CharSequence text) {
+        if (key.length() != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char a = key.charAt(i);
+            char b = text.charAt(i);
+            if (a != b && Character.toUpperCase(a) != Character.toUpperCase(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
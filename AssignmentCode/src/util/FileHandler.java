@@ -3,60 +3,104 @@ package util;
 import entity.user.Student;
 import entity.user.CareerCenterStaff;
 import entity.user.CompanyRepresentative;
+import entity.user.User;
 import entity.domain.InternshipOpportunity;
+import entity.domain.InternshipApplication;
+import entity.domain.WithdrawalRequest;
+import enums.ApplicationStatus;
 import enums.Major;
 import enums.InternshipLevel;
 import enums.InternshipStatus;
+import enums.RequestStatus;
 
 import java.io.*;
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 
 /**
  * Handles reading and writing data to CSV files
  */
 public class FileHandler {
     
-    private static final String DEFAULT_PASSWORD = "password";
+    static final String DEFAULT_PASSWORD = "password";
     private static final String COMPANY_REP_ID_PREFIX = "CR";
+    private static final IdAllocator COMPANY_REP_IDS = IdAllocator.forFile("assets/company_rep_ids.seq");
+    private static volatile boolean companyRepIdsSeeded;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    
+    // Change logs kept next to company representative CSV files (record op, then CSV columns)
+    private static final String COMPANY_REP_UPSERT = "U";
+    private static final String COMPANY_REP_DELETE = "D";
+    private static final int MIN_LOG_RECORDS_BEFORE_COMPACTION = 1000;
+    private static final Map<String, AppendLog> COMPANY_REP_LOGS = new ConcurrentHashMap<>();
+    private static final Object COMPANY_REP_COMPACTION = new Object(); // One compaction at a time
+    
+    // Parse large files in parallel chunks instead of one sequential pass
+    private static boolean parallelLoading = false;
+    
+    // Precomputed enum decoding tables (match enum names and display names, ignoring case)
+    private static final EnumLookup<Major> MAJORS = new EnumLookup<>(Major.class, Major::getFullName);
+    private static final EnumLookup<InternshipLevel> LEVELS = new EnumLookup<>(InternshipLevel.class);
+    private static final EnumLookup<InternshipStatus> INTERNSHIP_STATUSES = new EnumLookup<>(InternshipStatus.class);
+    private static final EnumLookup<ApplicationStatus> APPLICATION_STATUSES = new EnumLookup<>(ApplicationStatus.class);
+    private static final EnumLookup<RequestStatus> REQUEST_STATUSES = new EnumLookup<>(RequestStatus.class);
     
     /**
-     * Loads students from CSV file
-     * CSV Format: StudentID,Name,Major,Year,Email
+     * Enables or disables parallel chunked loading of CSV files
      */
-    public static List<Student> loadStudents(String filePath) {
-        List<Student> students = new ArrayList<>();
+    public static void setParallelLoading(boolean enabled) {
+        parallelLoading = enabled;
+    }
+    
+    /**
+     * Reads every record after the header, adding mapped rows to the target list in file order
+     */
+    private static <T> void readRows(String filePath, List<T> target, CsvReader.RowMapper<T> mapper) throws IOException {
+        // Chunking only pays off when there is more than one core to parse on
+        if (parallelLoading && Runtime.getRuntime().availableProcessors() > 1) {
+            if (!new File(filePath).exists()) {
+                throw new FileNotFoundException(filePath);
+            }
+            ParallelCsvLoader.load(filePath, target, mapper);
+            return;
+        }
         
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isFirstLine = true;
+        try (CsvReader csv = CsvReader.open(filePath)) {
+            csv.next(); // Skip header
             
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
-                
-                if (line.trim().isEmpty()) {
+            while (csv.next()) {
+                if (csv.isBlankRecord()) {
                     continue;
                 }
                 
-                String[] data = line.split(",");
-                if (data.length >= 5) {
-                    String studentId = data[0].trim();
-                    String name = data[1].trim();
-                    String majorStr = data[2].trim();
-                    int year = Integer.parseInt(data[3].trim());
-                    String email = data[4].trim();
-                    
-                    Major major = parseMajor(majorStr);
-                    
-                    Student student = new Student(studentId, name, email, DEFAULT_PASSWORD, year, major);
-                    students.add(student);
+                T row = mapper.map(csv);
+                if (row != null) {
+                    target.add(row);
                 }
             }
+        }
+    }
+    
+    /**
+     * Loads students from CSV file
+     * CSV Format: StudentID,Name,Major,Year,Email
+     */
+    public static List<Student> loadStudents(String filePath) {
+        List<Student> students = new ArrayList<>();
+        
+        try {
+            readRows(filePath, students, csv -> csv.getFieldCount() >= 5 ? readStudent(csv) : null);
             
             System.out.println("Loaded " + students.size() + " students from " + filePath);
             
@@ -78,41 +122,137 @@ public class FileHandler {
     public static List<CareerCenterStaff> loadStaff(String filePath) {
         List<CareerCenterStaff> staffList = new ArrayList<>();
         
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isFirstLine = true;
+        try {
+            readRows(filePath, staffList, csv -> csv.getFieldCount() >= 5 ? readStaff(csv) : null);
             
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
+            System.out.println("Loaded " + staffList.size() + " staff members from " + filePath);
+            
+        } catch (FileNotFoundException e) {
+            System.err.println("Staff file not found: " + filePath);
+        } catch (IOException e) {
+            System.err.println("Error reading staff file: " + e.getMessage());
+        }
+        
+        return staffList;
+    }
+    
+    /**
+     * Re-reads the student file and compares it with the in-memory students by student ID
+     * @return the differences, or null if the file could not be read
+     */
+    public static UserDiff<Student> diffStudents(String filePath, List<Student> students) {
+        try {
+            return diffUsers(filePath, students, 5, FileHandler::studentMatches, FileHandler::readStudent);
+        } catch (IOException e) {
+            System.err.println("Error reading student file: " + e.getMessage());
+        } catch (NumberFormatException e) {
+            System.err.println("Error parsing student data: " + e.getMessage());
+        }
+        return null;
+    }
+    
+    /**
+     * Re-reads the staff file and compares it with the in-memory staff by staff ID
+     * @return the differences, or null if the file could not be read
+     */
+    public static UserDiff<CareerCenterStaff> diffStaff(String filePath, List<CareerCenterStaff> staff) {
+        try {
+            return diffUsers(filePath, staff, 5, FileHandler::staffMatches, FileHandler::readStaff);
+        } catch (IOException e) {
+            System.err.println("Error reading staff file: " + e.getMessage());
+        }
+        return null;
+    }
+    
+    /**
+     * Compares a user file with the in-memory users, matching rows by the ID in the first column.
+     * <p>
+     * Rows are expected in roughly the same order as the list, so each row is first compared with
+     * the next expected user; an ID index is only built once rows are out of place. Unchanged rows
+     * are compared field by field against the existing object and never allocate; only new and
+     * changed rows are turned into user objects.
+     */
+    private static <T extends User> UserDiff<T> diffUsers(String filePath, List<T> current, int minFields,
+                                                          BiPredicate<CsvReader, T> matches,
+                                                          CsvReader.RowMapper<T> mapper) throws IOException {
+        UserDiff<T> diff = new UserDiff<>();
+        boolean[] seen = new boolean[current.size()];
+        Map<String, Integer> positions = null;
+        Set<String> insertedIds = null;
+        int expected = 0;
+        
+        try (CsvReader csv = CsvReader.open(filePath)) {
+            csv.next(); // Skip header
+            while (csv.next()) {
+                if (csv.isBlankRecord() || csv.getFieldCount() < minFields) {
                     continue;
                 }
                 
-                if (line.trim().isEmpty()) {
+                int index = -1;
+                if (expected < current.size() && csv.fieldEquals(0, current.get(expected).getUserId())) {
+                    index = expected;
+                } else {
+                    if (positions == null) {
+                        positions = new HashMap<>();
+                        for (int i = 0; i < current.size(); i++) {
+                            positions.putIfAbsent(current.get(i).getUserId(), i);
+                        }
+                    }
+                    Integer position = positions.get(csv.getString(0));
+                    if (position != null) {
+                        index = position;
+                    }
+                }
+                
+                if (index < 0) {
+                    if (insertedIds == null) {
+                        insertedIds = new HashSet<>();
+                    }
+                    T user = mapper.map(csv);
+                    if (insertedIds.add(user.getUserId())) {
+                        diff.addInsert(user);
+                    }
                     continue;
                 }
                 
-                String[] data = line.split(",");
-                if (data.length >= 5) {
-                    String staffId = data[0].trim();
-                    String name = data[1].trim();
-                    String department = data[3].trim();
-                    String email = data[4].trim();
-                    
-                    CareerCenterStaff staff = new CareerCenterStaff(staffId, name, email, DEFAULT_PASSWORD, department);
-                    staffList.add(staff);
+                expected = index + 1;
+                if (seen[index]) {
+                    continue; // Duplicate row, first one wins
+                }
+                seen[index] = true;
+                
+                T existing = current.get(index);
+                if (!matches.test(csv, existing)) {
+                    diff.addUpdate(existing, mapper.map(csv));
                 }
             }
-            
-            System.out.println("Loaded " + staffList.size() + " staff members from " + filePath);
-            
-        } catch (FileNotFoundException e) {
-            System.err.println("Staff file not found: " + filePath);
-        } catch (IOException e) {
-            System.err.println("Error reading staff file: " + e.getMessage());
         }
         
-        return staffList;
+        for (int i = 0; i < seen.length; i++) {
+            if (!seen[i]) {
+                diff.addRemoval(current.get(i));
+            }
+        }
+        return diff;
+    }
+    
+    /**
+     * Checks if the current student record holds the same values as the student (no allocation)
+     */
+    private static boolean studentMatches(CsvReader csv, Student student) {
+        return csv.fieldEquals(1, student.getName())
+            && parseMajor(csv.getField(2)) == student.getMajor()
+            && csv.getInt(3) == student.getYearOfStudy()
+            && csv.fieldEquals(4, student.getEmail());
+    }
+    
+    /**
+     * Checks if the current staff record holds the same values as the staff member (no allocation)
+     */
+    private static boolean staffMatches(CsvReader csv, CareerCenterStaff staff) {
+        return csv.fieldEquals(1, staff.getName())
+            && csv.fieldEquals(3, staff.getStaffDepartment())
+            && csv.fieldEquals(4, staff.getEmail());
     }
     
     /**
@@ -129,38 +269,11 @@ public class FileHandler {
             return repList;
         }
         
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isFirstLine = true;
-            
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
-                
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
-                
-                String[] data = line.split(",");
-                if (data.length >= 7) {
-                    String repId = data[0].trim();
-                    String name = data[1].trim();
-                    String companyName = data[2].trim();
-                    String department = data[3].trim();
-                    String position = data[4].trim();
-                    String email = data[5].trim();
-                    String status = data[6].trim();
-                    
-                    CompanyRepresentative rep = new CompanyRepresentative(
-                        repId, name, email, DEFAULT_PASSWORD, companyName, department, position
-                    );
-                    
-                    rep.setRegistrationApproved(status.equalsIgnoreCase("Approved"));
-                    
-                    repList.add(rep);
-                }
+        try {
+            readRows(filePath, repList, csv -> csv.getFieldCount() >= 7 ? readCompanyRep(csv, 0) : null);
+            repList = replayCompanyRepLog(repList, filePath);
+            for (CompanyRepresentative rep : repList) {
+                rep.markClean();
             }
             
             System.out.println("Loaded " + repList.size() + " company representatives from " + filePath);
@@ -172,30 +285,212 @@ public class FileHandler {
         return repList;
     }
     
+    /**
+     * Builds a student from the current CSV record
+     */
+    private static Student readStudent(CsvReader csv) {
+        String studentId = csv.getString(0);
+        String name = csv.getString(1);
+        Major major = parseMajor(csv.getField(2));
+        int year = csv.getInt(3);
+        String email = csv.getString(4);
+        
+        return new Student(studentId, name, email, DEFAULT_PASSWORD, year, major);
+    }
+    
+    /**
+     * Builds a staff member from the current CSV record
+     */
+    private static CareerCenterStaff readStaff(CsvReader csv) {
+        String staffId = csv.getString(0);
+        String name = csv.getString(1);
+        String department = csv.getString(3);
+        String email = csv.getString(4);
+        
+        return new CareerCenterStaff(staffId, name, email, DEFAULT_PASSWORD, department);
+    }
+    
+    /**
+     * Builds a company representative from the current CSV record, starting at the given column offset
+     */
+    private static CompanyRepresentative readCompanyRep(CsvReader csv, int offset) {
+        String repId = csv.getString(offset);
+        String name = csv.getString(offset + 1);
+        String companyName = csv.getString(offset + 2);
+        String department = csv.getString(offset + 3);
+        String position = csv.getString(offset + 4);
+        String email = csv.getString(offset + 5);
+        
+        CompanyRepresentative rep = new CompanyRepresentative(
+            repId, name, email, DEFAULT_PASSWORD, companyName, department, position
+        );
+        
+        rep.setRegistrationApproved(csv.fieldEqualsIgnoreCase(offset + 6, "Approved"));
+        
+        return rep;
+    }
+    
     /**
      * Saves company representatives to CSV file
      */
-    public static void saveCompanyReps(List<CompanyRepresentative> reps, String filePath) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filePath))) {
-            pw.println("CompanyRepID,Name,CompanyName,Department,Position,Email,Status");
+    public static CompletableFuture<Void> saveCompanyReps(List<CompanyRepresentative> reps, String filePath) {
+        return AtomicFileWriter.forPath(filePath).submit(() -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append("CompanyRepID,Name,CompanyName,Department,Position,Email,Status").append(LINE_SEPARATOR);
             
             for (CompanyRepresentative rep : reps) {
-                String status = rep.isRegistrationApproved() ? "Approved" : "Pending";
-                pw.println(String.format("%s,%s,%s,%s,%s,%s,%s",
-                    rep.getUserId(),
-                    rep.getName(),
-                    rep.getCompanyName(),
-                    rep.getDepartment(),
-                    rep.getPosition(),
-                    rep.getEmail(),
-                    status
-                ));
+                sb.append(toCSVLine(companyRepToFields(rep))).append(LINE_SEPARATOR);
             }
             
-            // System.out.println("Saved " + reps.size() + " company representatives to " + filePath);
-            
-        } catch (IOException e) {
-            System.err.println("Error writing company representative file: " + e.getMessage());
+            return sb.toString();
+        });
+    }
+    
+    /**
+     * Saves one company representative by appending it to the change log next to the CSV file
+     * (does nothing if the record has not changed since it was last written)
+     * @param reps All representatives, used when the change log is folded back into the CSV file
+     */
+    public static void saveCompanyRep(List<CompanyRepresentative> reps, CompanyRepresentative rep, String filePath) {
+        if (!rep.isDirty()) {
+            return;
+        }
+        AppendLog log = getCompanyRepLog(filePath);
+        log.append(companyRepChange(rep));
+        rep.markClean();
+        compactCompanyRepLogIfNeeded(reps, filePath, log);
+    }
+    
+    /**
+     * Renders a company representative's change record now, so it can be saved later from another
+     * thread with {@link #saveCompanyRepChanges} (null if nothing changed since it was last written)
+     */
+    public static String[] captureCompanyRep(CompanyRepresentative rep) {
+        if (!rep.isDirty()) {
+            return null;
+        }
+        String[] change = companyRepChange(rep);
+        rep.markClean();
+        return change;
+    }
+    
+    /**
+     * Renders the change record for a removed company representative (see {@link #captureCompanyRep})
+     */
+    public static String[] captureCompanyRepRemoval(CompanyRepresentative rep) {
+        return new String[] {COMPANY_REP_DELETE, rep.getUserId()};
+    }
+    
+    /**
+     * Appends captured change records to the change log in one batch (does not read any
+     * representative, so it is safe while they are being modified)
+     */
+    public static void saveCompanyRepChanges(List<String[]> changes, String filePath) {
+        getCompanyRepLog(filePath).appendAll(changes);
+    }
+    
+    /**
+     * Folds the change log back into the CSV file if it has grown too long (call from the thread
+     * that modifies the representatives)
+     */
+    public static void compactCompanyRepLog(List<CompanyRepresentative> reps, String filePath) {
+        compactCompanyRepLogIfNeeded(reps, filePath, getCompanyRepLog(filePath));
+    }
+    
+    /**
+     * Records that a company representative was removed
+     */
+    public static void saveCompanyRepRemoval(List<CompanyRepresentative> reps, CompanyRepresentative rep, String filePath) {
+        AppendLog log = getCompanyRepLog(filePath);
+        log.append(captureCompanyRepRemoval(rep));
+        compactCompanyRepLogIfNeeded(reps, filePath, log);
+    }
+    
+    /**
+     * Converts a company representative to its CSV fields (same column order as company_representative_list.csv)
+     */
+    static String[] companyRepToFields(CompanyRepresentative rep) {
+        return new String[] {
+            rep.getUserId(),
+            rep.getName(),
+            rep.getCompanyName(),
+            rep.getDepartment(),
+            rep.getPosition(),
+            rep.getEmail(),
+            rep.isRegistrationApproved() ? "Approved" : "Pending"
+        };
+    }
+    
+    /**
+     * Builds an upsert record for the change log: {@code U,<company representative CSV columns>}
+     */
+    private static String[] companyRepChange(CompanyRepresentative rep) {
+        String[] fields = companyRepToFields(rep);
+        String[] record = new String[fields.length + 1];
+        record[0] = COMPANY_REP_UPSERT;
+        System.arraycopy(fields, 0, record, 1, fields.length);
+        return record;
+    }
+    
+    /**
+     * Returns the change log kept next to a company representative CSV file
+     */
+    private static AppendLog getCompanyRepLog(String filePath) {
+        return COMPANY_REP_LOGS.computeIfAbsent(filePath, path -> new AppendLog(
+            (path.endsWith(".csv") ? path.substring(0, path.length() - 4) : path) + ".log"
+        ));
+    }
+    
+    /**
+     * Applies the change log on top of the representatives read from the CSV file
+     */
+    private static List<CompanyRepresentative> replayCompanyRepLog(List<CompanyRepresentative> reps, String filePath) {
+        AppendLog log = getCompanyRepLog(filePath);
+        if (log.getRecordCount() == 0) {
+            return reps;
+        }
+        
+        Map<String, CompanyRepresentative> byId = new LinkedHashMap<>();
+        for (CompanyRepresentative rep : reps) {
+            byId.put(rep.getUserId(), rep);
+        }
+        
+        int applied = log.read(csv -> {
+            if (csv.fieldEqualsIgnoreCase(0, COMPANY_REP_UPSERT) && csv.getFieldCount() >= 8) {
+                CompanyRepresentative rep = readCompanyRep(csv, 1);
+                byId.put(rep.getUserId(), rep);
+            } else if (csv.fieldEqualsIgnoreCase(0, COMPANY_REP_DELETE) && csv.getFieldCount() >= 2) {
+                byId.remove(csv.getString(1));
+            }
+        });
+        
+        System.out.println("Replayed " + applied + " company representative change(s) from " + log.getFilePath());
+        return new ArrayList<>(byId.values());
+    }
+    
+    /**
+     * Folds the change log back into the CSV file once superseded records outnumber live ones
+     */
+    private static void compactCompanyRepLogIfNeeded(List<CompanyRepresentative> reps, String filePath, AppendLog log) {
+        if (log.getRecordCount() <= Math.max(MIN_LOG_RECORDS_BEFORE_COMPACTION, 2 * reps.size())) {
+            return;
+        }
+        
+        synchronized (COMPANY_REP_COMPACTION) {
+            // Render the CSV and count the records it covers together; appends only wait for this,
+            // not for the write, and records appended meanwhile stay in the log
+            CompletableFuture<Void> saved;
+            int covered;
+            synchronized (log) {
+                covered = log.getRecordCount();
+                saved = saveCompanyReps(reps, filePath);
+            }
+            try {
+                saved.join();
+            } catch (CompletionException e) {
+                return; // CSV not written, keep the log
+            }
+            log.truncate(covered);
         }
     }
     
@@ -212,26 +507,34 @@ public class FileHandler {
     }
     
     /**
-     * Helper method to parse major string to Major enum
+     * Helper method to parse major string (code or full name) to Major enum
      */
-    private static Major parseMajor(String majorStr) {
-        try {
-            return Major.valueOf(majorStr.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            for (Major major : Major.values()) {
-                if (major.getFullName().equalsIgnoreCase(majorStr)) {
-                    return major;
-                }
-            }
+    private static Major parseMajor(CharSequence majorStr) {
+        Major major = MAJORS.get(majorStr);
+        if (major == null) {
             System.err.println("Unknown major: " + majorStr + ", defaulting to CS");
             return Major.CS;
         }
+        return major;
     }
     
     /**
-     * Generates a unique Company Representative ID
+     * Generates a unique Company Representative ID (the existing IDs are only scanned on first use)
      */
     public static String generateCompanyRepId(List<CompanyRepresentative> existingReps) {
+        if (!companyRepIdsSeeded) {
+            seedCompanyRepIds(existingReps);
+        }
+        return String.format("%s%04d", COMPANY_REP_ID_PREFIX, COMPANY_REP_IDS.next());
+    }
+
+    /**
+     * Makes sure new Company Representative IDs come after the existing ones
+     */
+    private static synchronized void seedCompanyRepIds(List<CompanyRepresentative> existingReps) {
+        if (companyRepIdsSeeded) {
+            return;
+        }
         int maxId = 0;
 
         for (CompanyRepresentative rep : existingReps) {
@@ -246,7 +549,8 @@ public class FileHandler {
             }
         }
 
-        return String.format("%s%04d", COMPANY_REP_ID_PREFIX, maxId + 1);
+        COMPANY_REP_IDS.advancePast(maxId);
+        companyRepIdsSeeded = true;
     }
 
     /**
@@ -263,52 +567,18 @@ public class FileHandler {
             return internships;
         }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isFirstLine = true;
-
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
-
-                if (line.trim().isEmpty()) {
-                    continue;
+        try {
+            readRows(filePath, internships, csv -> {
+                if (csv.getFieldCount() < 13) {
+                    return null;
                 }
-
-                String[] data = parseCSVLine(line);
-                if (data.length >= 13) {
-                    try {
-                        String opportunityId = data[0].trim();
-                        String title = data[1].trim();
-                        String description = data[2].trim();
-                        InternshipLevel level = InternshipLevel.valueOf(data[3].trim().toUpperCase());
-                        Major preferredMajor = parseMajor(data[4].trim());
-                        LocalDate openingDate = LocalDate.parse(data[5].trim());
-                        LocalDate closingDate = LocalDate.parse(data[6].trim());
-                        InternshipStatus status = InternshipStatus.valueOf(data[7].trim().toUpperCase());
-                        String companyName = data[8].trim();
-                        String assignedRepresentativeId = data[9].trim();
-                        int totalSlots = Integer.parseInt(data[10].trim());
-                        int filledSlots = Integer.parseInt(data[11].trim());
-                        boolean isVisible = Boolean.parseBoolean(data[12].trim());
-
-                        InternshipOpportunity internship = new InternshipOpportunity(
-                            opportunityId, title, description, level, preferredMajor,
-                            openingDate, closingDate, companyName, assignedRepresentativeId, totalSlots
-                        );
-
-                        internship.setStatus(status);
-                        internship.setFilledSlots(filledSlots);
-                        internship.setVisible(isVisible);
-
-                        internships.add(internship);
-                    } catch (IllegalArgumentException | DateTimeParseException e) {
-                        System.err.println("Error parsing internship data: " + e.getMessage());
-                    }
+                try {
+                    return readInternship(csv, 0);
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    System.err.println("Error parsing internship data: " + e.getMessage());
+                    return null;
                 }
-            }
+            });
 
             System.out.println("Loaded " + internships.size() + " internships from " + filePath);
 
@@ -319,37 +589,138 @@ public class FileHandler {
         return internships;
     }
 
+    /**
+     * Creates the rendered CSV lines of an internship list, used to save it
+     */
+    public static CsvRows<InternshipOpportunity> newInternshipRows() {
+        return new CsvRows<>(FileHandler::internshipToFields);
+    }
+
     /**
      * Saves internship opportunities to CSV file
+     * @param lines Rendered internship lines (see {@link #newInternshipRows()}), in file order
      */
-    public static void saveInternships(List<InternshipOpportunity> internships, String filePath) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filePath))) {
-            pw.println("OpportunityID,Title,Description,Level,PreferredMajor,OpeningDate,ClosingDate,Status,CompanyName,AssignedRepresentativeId,TotalSlots,FilledSlots,IsVisible");
+    public static CompletableFuture<Void> saveInternships(List<String> lines, String filePath) {
+        return AtomicFileWriter.forPath(filePath).submit(() -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append("OpportunityID,Title,Description,Level,PreferredMajor,OpeningDate,ClosingDate,Status,CompanyName,AssignedRepresentativeId,TotalSlots,FilledSlots,IsVisible").append(LINE_SEPARATOR);
 
-            for (InternshipOpportunity internship : internships) {
-                String line = String.format("%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%d,%d,%b",
-                    internship.getOpportunityId(),
-                    internship.getTitle(),
-                    escapeCSV(internship.getDescription()),
-                    internship.getLevel(),
-                    internship.getPreferredMajor(),
-                    internship.getOpeningDate(),
-                    internship.getClosingDate(),
-                    internship.getStatus(),
-                    internship.getCompanyName(),
-                    internship.getAssignedRepresentativeId(),
-                    internship.getTotalSlots(),
-                    internship.getFilledSlots(),
-                    internship.isVisible()
-                );
-                pw.println(line);
+            for (String line : lines) {
+                sb.append(line).append(LINE_SEPARATOR);
             }
 
-            //System.out.println("Saved " + internships.size() + " internships to " + filePath);
+            return sb.toString();
+        });
+    }
 
-        } catch (IOException e) {
-            System.err.println("Error writing internship file: " + e.getMessage());
-        }
+    /**
+     * Converts an internship to its CSV fields (same column order as internship_list.csv)
+     */
+    static String[] internshipToFields(InternshipOpportunity internship) {
+        return new String[] {
+            internship.getOpportunityId(),
+            internship.getTitle(),
+            internship.getDescription(),
+            internship.getLevel().toString(),
+            internship.getPreferredMajor().toString(),
+            internship.getOpeningDate().toString(),
+            internship.getClosingDate().toString(),
+            internship.getStatus().toString(),
+            internship.getCompanyName(),
+            internship.getAssignedRepresentativeId(),
+            String.valueOf(internship.getTotalSlots()),
+            String.valueOf(internship.getFilledSlots()),
+            String.valueOf(internship.isVisible())
+        };
+    }
+
+    /**
+     * Builds an internship from the current CSV record, starting at the given column offset
+     */
+    static InternshipOpportunity readInternship(CsvReader csv, int offset) {
+        String opportunityId = csv.getString(offset);
+        String title = csv.getString(offset + 1);
+        String description = csv.getString(offset + 2);
+        InternshipLevel level = LEVELS.parse(csv.getField(offset + 3));
+        Major preferredMajor = parseMajor(csv.getField(offset + 4));
+        LocalDate openingDate = csv.getDate(offset + 5);
+        LocalDate closingDate = csv.getDate(offset + 6);
+        InternshipStatus status = INTERNSHIP_STATUSES.parse(csv.getField(offset + 7));
+        String companyName = csv.getString(offset + 8);
+        String assignedRepresentativeId = csv.getString(offset + 9);
+        int totalSlots = csv.getInt(offset + 10);
+        int filledSlots = csv.getInt(offset + 11);
+        boolean isVisible = csv.getBoolean(offset + 12);
+
+        InternshipOpportunity internship = new InternshipOpportunity(
+            opportunityId, title, description, level, preferredMajor,
+            openingDate, closingDate, companyName, assignedRepresentativeId, totalSlots
+        );
+
+        internship.setStatus(status);
+        internship.setFilledSlots(filledSlots);
+        internship.setVisible(isVisible);
+
+        return internship;
+    }
+
+    /**
+     * Converts an application to its CSV fields
+     * Format: ApplicationID,StudentID,OpportunityID,Status,PlacementConfirmed,ApplicationDate
+     */
+    static String[] applicationToFields(InternshipApplication application) {
+        return new String[] {
+            application.getApplicationId(),
+            application.getStudentId(),
+            application.getOpportunityId(),
+            application.getApplicationStatus().toString(),
+            String.valueOf(application.isPlacementConfirmed()),
+            application.getApplicationDate().toString()
+        };
+    }
+
+    /**
+     * Builds an application from the current CSV record
+     */
+    static InternshipApplication readApplication(CsvReader csv) {
+        InternshipApplication application = new InternshipApplication(
+            csv.getString(0), csv.getString(1), csv.getString(2)
+        );
+        application.setApplicationStatus(APPLICATION_STATUSES.parse(csv.getField(3)));
+        application.setPlacementConfirmed(csv.getBoolean(4));
+        application.setApplicationDate(csv.getDate(5));
+        return application;
+    }
+
+    /**
+     * Converts a withdrawal request to its CSV fields
+     * Format: RequestID,StudentID,ApplicationID,Status,BeforePlacement,RequestDate,ProcessedDate,Remarks
+     */
+    static String[] withdrawalRequestToFields(WithdrawalRequest request) {
+        return new String[] {
+            request.getRequestId(),
+            request.getStudentId(),
+            request.getApplicationId(),
+            request.getRequestStatus().toString(),
+            String.valueOf(request.isBeforePlacement()),
+            request.getRequestDate().toString(),
+            request.getProcessedDate() == null ? "" : request.getProcessedDate().toString(),
+            request.getRemarks()
+        };
+    }
+
+    /**
+     * Builds a withdrawal request from the current CSV record
+     */
+    static WithdrawalRequest readWithdrawalRequest(CsvReader csv) {
+        WithdrawalRequest request = new WithdrawalRequest(
+            csv.getString(0), csv.getString(1), csv.getString(2), csv.getBoolean(4)
+        );
+        request.setRequestStatus(REQUEST_STATUSES.parse(csv.getField(3)));
+        request.setRequestDate(csv.getDate(5));
+        request.setProcessedDate(csv.getField(6).length() == 0 ? null : csv.getDate(6));
+        request.setRemarks(csv.getString(7));
+        return request;
     }
 
     /**
@@ -364,10 +735,24 @@ public class FileHandler {
         }
     }
 
+    /**
+     * Joins values into a single CSV line, escaping each value as required
+     */
+    static String toCSVLine(String... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(escapeCSV(values[i]));
+        }
+        return sb.toString();
+    }
+
     /**
      * Helper method to escape CSV values (handles commas and quotes in descriptions)
      */
-    private static String escapeCSV(String value) {
+    static String escapeCSV(String value) {
         if (value == null) {
             return "";
         }
@@ -379,35 +764,4 @@ public class FileHandler {
 
         return value;
     }
-
-    /**
-     * Helper method to parse a CSV line handling quoted values
-     */
-    private static String[] parseCSVLine(String line) {
-        List<String> result = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-
-            if (c == '"') {
-                // Check for escaped quote (two consecutive quotes)
-                if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    current.append('"');
-                    i++; // Skip next quote
-                } else {
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                result.add(current.toString());
-                current = new StringBuilder();
-            } else {
-                current.append(c);
-            }
-        }
-
-        result.add(current.toString());
-        return result.toArray(new String[0]);
-    }
 }
\ No newline at end of file
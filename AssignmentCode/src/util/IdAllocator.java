@@ -0,0 +1,161 @@
+package util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out unique, increasing numbers for IDs, such as the 12 in APP0012.
+ * <p>
+ * Numbers are taken from a block reserved in advance, so an allocation is a single atomic
+ * increment with no lock. When the block runs out, one thread reserves the next block by moving
+ * the high-water mark kept in a sequence file: the file is locked with a {@link FileLock}, so
+ * application instances sharing the data directory always get disjoint blocks, and the new mark
+ * is forced to disk before any number from the block is used, so a restart never reuses a number.
+ * Numbers left in a block when the application stops are skipped, leaving gaps.
+ */
+public class IdAllocator {
+
+    public static final int DEFAULT_BLOCK_SIZE = 32;
+    private static final int MARK_WIDTH = 19; // Digits of the largest long
+    private static final Map<Path, IdAllocator> ALLOCATORS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final int blockSize;
+    private volatile Block block = new Block(0, 0);
+    private long floor = 1;        // Lowest number that may be handed out
+    private long reservedUpTo;     // Highest mark this allocator has written or read
+
+    private IdAllocator(Path path, int blockSize) {
+        this.path = path;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns the shared allocator for a sequence file, reserving blocks of the default size
+     */
+    public static IdAllocator forFile(String filePath) {
+        return forFile(filePath, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Returns the shared allocator for a sequence file (the block size of the first call is kept);
+     * different spellings of the same path share one allocator
+     */
+    public static IdAllocator forFile(String filePath, int blockSize) {
+        Path key = Paths.get(filePath).toAbsolutePath().normalize();
+        return ALLOCATORS.computeIfAbsent(key, p -> new IdAllocator(p, Math.max(1, blockSize)));
+    }
+
+    /**
+     * Returns the next number
+     */
+    public long next() {
+        while (true) {
+            Block current = block;
+            long number = current.cursor.getAndIncrement();
+            if (number < current.end) {
+                return number;
+            }
+            refill(current);
+        }
+    }
+
+    /**
+     * Makes sure no number up to and including the given one is handed out, such as the highest
+     * ID already stored in a data file (call after loading, before allocating)
+     */
+    public synchronized void advancePast(long number) {
+        if (number < floor) {
+            return;
+        }
+        floor = number + 1;
+        if (block.cursor.get() < floor) {
+            block = new Block(0, 0); // The next allocation reserves a block above the floor
+        }
+    }
+
+    /**
+     * Replaces an exhausted block, unless another thread already has
+     */
+    private synchronized void refill(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+        long start = reserve();
+        block = new Block(start, start + blockSize);
+    }
+
+    /**
+     * Moves the high-water mark in the sequence file up by one block and returns the block's start
+     */
+    private long reserve() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock(); // Waits for other instances reserving from the same file
+                try {
+                    long start = Math.max(Math.max(readMark(channel), reservedUpTo), floor);
+                    writeMark(channel, start + blockSize);
+                    reservedUpTo = start + blockSize;
+                    return start;
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Keep allocating in memory; numbers stay unique within this instance
+            System.err.println("Error reserving IDs in " + path + ": " + e.getMessage());
+            long start = Math.max(reservedUpTo, floor);
+            reservedUpTo = start + blockSize;
+            return start;
+        }
+    }
+
+    private static long readMark(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(MARK_WIDTH);
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+            // Keep reading until the mark is complete or the file ends
+        }
+        String mark = new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII).trim();
+        return mark.isEmpty() ? 0 : Long.parseLong(mark);
+    }
+
+    /**
+     * Overwrites the mark in place with a fixed width, so the file never shrinks or holds a partial mark
+     */
+    private static void writeMark(FileChannel channel, long mark) throws IOException {
+        String padded = String.format("%0" + MARK_WIDTH + "d\n", mark);
+        ByteBuffer buffer = ByteBuffer.wrap(padded.getBytes(StandardCharsets.US_ASCII));
+        long position = 0;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        channel.force(true);
+    }
+
+    /**
+     * Reserved range of numbers, from the cursor up to (not including) the end
+     */
+    private static final class Block {
+        private final AtomicLong cursor;
+        private final long end;
+
+        Block(long start, long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,242 @@
+package util;
+
+import entity.domain.InternshipOpportunity;
+import enums.InternshipLevel;
+import enums.InternshipStatus;
+import enums.Major;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Bitmap secondary indexes over internships, keyed by status, level and preferred major.
+ * <p>
+ * Each internship gets a row number when added; row numbers follow list order and are not reused
+ * until the index is rebuilt. For every enum value there is a bitset of the rows holding that
+ * value, so a filter combination is resolved with bitmap ANDs before any internship is touched.
+ * The index keeps the last indexed values of each row, so a change notification only flips the
+ * bits of the fields that actually changed.
+ */
+public class InternshipIndex {
+
+    private static final byte REMOVED = -1;
+
+    private final Map<InternshipOpportunity, Integer> rowOf = new IdentityHashMap<>();
+    private final BitSet live = new BitSet();
+    private final BitSet[] byStatus = newBitSets(InternshipStatus.values().length);
+    private final BitSet[] byLevel = newBitSets(InternshipLevel.values().length);
+    private final BitSet[] byMajor = newBitSets(Major.values().length);
+    private InternshipOpportunity[] rows = new InternshipOpportunity[16];
+    private byte[] statusOf = new byte[16];
+    private byte[] levelOf = new byte[16];
+    private byte[] majorOf = new byte[16];
+    private int rowCount;
+
+    /**
+     * Replaces the whole index with the given internships, in list order
+     */
+    public synchronized void rebuild(List<InternshipOpportunity> internships) {
+        rowOf.clear();
+        live.clear();
+        clearAll(byStatus);
+        clearAll(byLevel);
+        clearAll(byMajor);
+        int capacity = Math.max(16, internships.size());
+        rows = new InternshipOpportunity[capacity];
+        statusOf = new byte[capacity];
+        levelOf = new byte[capacity];
+        majorOf = new byte[capacity];
+        rowCount = 0;
+
+        for (InternshipOpportunity internship : internships) {
+            add(internship);
+        }
+    }
+
+    /**
+     * Adds an internship as the last row
+     */
+    public synchronized void add(InternshipOpportunity internship) {
+        if (rowOf.containsKey(internship)) {
+            return;
+        }
+        if (rowCount == rows.length) {
+            int capacity = rows.length * 2;
+            rows = Arrays.copyOf(rows, capacity);
+            statusOf = Arrays.copyOf(statusOf, capacity);
+            levelOf = Arrays.copyOf(levelOf, capacity);
+            majorOf = Arrays.copyOf(majorOf, capacity);
+        }
+
+        int row = rowCount++;
+        rows[row] = internship;
+        rowOf.put(internship, row);
+        live.set(row);
+
+        statusOf[row] = (byte) internship.getStatus().ordinal();
+        levelOf[row] = (byte) internship.getLevel().ordinal();
+        majorOf[row] = (byte) internship.getPreferredMajor().ordinal();
+        byStatus[statusOf[row]].set(row);
+        byLevel[levelOf[row]].set(row);
+        byMajor[majorOf[row]].set(row);
+    }
+
+    /**
+     * Removes an internship, clearing its row in every bitmap
+     */
+    public synchronized void remove(InternshipOpportunity internship) {
+        Integer row = rowOf.remove(internship);
+        if (row == null) {
+            return;
+        }
+        live.clear(row);
+        byStatus[statusOf[row]].clear(row);
+        byLevel[levelOf[row]].clear(row);
+        byMajor[majorOf[row]].clear(row);
+        statusOf[row] = levelOf[row] = majorOf[row] = REMOVED;
+        rows[row] = null;
+    }
+
+    /**
+     * Moves an internship's row between bitmaps for any indexed field that changed
+     */
+    public synchronized void update(InternshipOpportunity internship) {
+        Integer row = rowOf.get(internship);
+        if (row == null) {
+            return;
+        }
+        statusOf[row] = move(byStatus, row, statusOf[row], internship.getStatus().ordinal());
+        levelOf[row] = move(byLevel, row, levelOf[row], internship.getLevel().ordinal());
+        majorOf[row] = move(byMajor, row, majorOf[row], internship.getPreferredMajor().ordinal());
+    }
+
+    /**
+     * Returns the internships matching every given value, in list order
+     * @param status Required status, or null for any
+     * @param major Required preferred major, or null for any
+     * @param level Required level, or null for any
+     */
+    public synchronized List<InternshipOpportunity> query(InternshipStatus status, Major major, InternshipLevel level) {
+        BitSet result = select(status, major, level);
+        List<InternshipOpportunity> matches = new ArrayList<>(result.cardinality());
+        for (int row = result.nextSetBit(0); row >= 0; row = result.nextSetBit(row + 1)) {
+            matches.add(rows[row]);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of internships matching every given value (null for any), without
+     * touching any internship
+     */
+    public synchronized int count(InternshipStatus status, Major major, InternshipLevel level) {
+        return select(status, major, level).cardinality();
+    }
+
+    /**
+     * Returns a new bitset of the rows matching every given value (null for any); bitsets from
+     * this method can be combined with and/or/andNot before any internship is touched
+     */
+    public synchronized BitSet bitmap(InternshipStatus status, Major major, InternshipLevel level) {
+        return select(status, major, level);
+    }
+
+    /**
+     * Returns the internships in the given rows that the filter accepts, in list order, skipping
+     * the first skip matches and stopping after limit
+     */
+    public synchronized List<InternshipOpportunity> rows(BitSet selected, Predicate<InternshipOpportunity> filter,
+                                                         int skip, int limit) {
+        List<InternshipOpportunity> matches = new ArrayList<>();
+        for (int row = selected.nextSetBit(0); row >= 0 && matches.size() < limit; row = selected.nextSetBit(row + 1)) {
+            if (rows[row] != null && filter.test(rows[row]) && skip-- <= 0) {
+                matches.add(rows[row]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Sorts internships into list order (unindexed internships last)
+     */
+    public synchronized void sortByRow(List<InternshipOpportunity> internships) {
+        // Looks each row up once and reads them back from a bitset, rather than comparing by lookups
+        BitSet selected = new BitSet(rowCount);
+        List<InternshipOpportunity> unindexed = new ArrayList<>();
+        for (InternshipOpportunity internship : internships) {
+            Integer row = rowOf.get(internship);
+            if (row == null) {
+                unindexed.add(internship);
+            } else {
+                selected.set(row);
+            }
+        }
+        if (selected.cardinality() + unindexed.size() != internships.size()) {
+            internships.sort((a, b) -> Integer.compare( // Duplicates: fall back to a comparison sort
+                rowOf.getOrDefault(a, Integer.MAX_VALUE), rowOf.getOrDefault(b, Integer.MAX_VALUE)));
+            return;
+        }
+        int i = 0;
+        for (int row = selected.nextSetBit(0); row >= 0; row = selected.nextSetBit(row + 1)) {
+            internships.set(i++, rows[row]);
+        }
+        for (InternshipOpportunity internship : unindexed) {
+            internships.set(i++, internship);
+        }
+    }
+
+    /**
+     * Returns number of indexed internships
+     */
+    public synchronized int size() {
+        return rowOf.size();
+    }
+
+    /**
+     * ANDs the bitmaps of the given values into a new bitset of matching rows
+     */
+    private BitSet select(InternshipStatus status, Major major, InternshipLevel level) {
+        BitSet result = (BitSet) live.clone();
+        if (status != null) {
+            result.and(byStatus[status.ordinal()]);
+        }
+        if (major != null) {
+            result.and(byMajor[major.ordinal()]);
+        }
+        if (level != null) {
+            result.and(byLevel[level.ordinal()]);
+        }
+        return result;
+    }
+
+    /**
+     * Moves a row from the old value's bitmap to the new value's bitmap
+     * @return the new value
+     */
+    private static byte move(BitSet[] bitmaps, int row, byte oldValue, int newValue) {
+        if (oldValue != newValue) {
+            bitmaps[oldValue].clear(row);
+            bitmaps[newValue].set(row);
+        }
+        return (byte) newValue;
+    }
+
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+
+    private static void clearAll(BitSet[] bitSets) {
+        for (BitSet bitSet : bitSets) {
+            bitSet.clear();
+        }
+    }
+}
\ No newline at end of file
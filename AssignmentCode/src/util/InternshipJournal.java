@@ -0,0 +1,196 @@
+package util;
+
+import entity.domain.InternshipOpportunity;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-ahead journal for internship mutations.
+ * <p>
+ * Every create/update/remove appends one record to the journal instead of rewriting the whole
+ * internship CSV. A background task periodically folds the journal into a fresh snapshot CSV,
+ * and on startup the journal is replayed on top of the snapshot.
+ * <p>
+ * Record format: {@code Op,<internship CSV columns>} where Op is {@code U} (upsert) or
+ * {@code D} (delete, only the ID column follows).
+ */
+public class InternshipJournal {
+
+    private static final String OP_UPSERT = "U";
+    private static final String OP_DELETE = "D";
+    private static final int COMPACTION_THRESHOLD = 500;
+    private static final long COMPACTION_INTERVAL_SECONDS = 60;
+
+    private final String snapshotPath;
+    private final AppendLog log;
+    private ScheduledExecutorService compactor;
+    private CsvRows<InternshipOpportunity> rows;
+
+    /**
+     * Constructor for InternshipJournal
+     * @param snapshotPath Path of the internship CSV the journal applies to
+     * @param journalPath Path of the journal file
+     */
+    public InternshipJournal(String snapshotPath, String journalPath) {
+        this.snapshotPath = snapshotPath;
+        this.log = new AppendLog(journalPath);
+    }
+
+    /**
+     * Records that an internship was created or modified
+     */
+    public void recordUpdate(InternshipOpportunity internship) {
+        // The record and the compaction rows are rendered under the log's lock, so a compaction
+        // snapshot always includes every record it truncates
+        synchronized (log) {
+            String[] fields = FileHandler.internshipToFields(internship);
+            String[] record = new String[fields.length + 1];
+            record[0] = OP_UPSERT;
+            System.arraycopy(fields, 0, record, 1, fields.length);
+            if (rows != null) {
+                rows.put(internship);
+            }
+            log.append(record);
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Records that an internship was removed
+     */
+    public void recordRemoval(InternshipOpportunity internship) {
+        synchronized (log) {
+            if (rows != null) {
+                rows.remove(internship);
+            }
+            log.append(OP_DELETE, internship.getOpportunityId());
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Applies the journal on top of the internships loaded from the snapshot
+     * @return internships in snapshot order, with new internships appended in journal order
+     */
+    public List<InternshipOpportunity> replay(List<InternshipOpportunity> snapshot) {
+        if (log.getRecordCount() == 0) {
+            return snapshot;
+        }
+
+        Map<String, InternshipOpportunity> byId = new LinkedHashMap<>();
+        for (InternshipOpportunity internship : snapshot) {
+            byId.put(internship.getOpportunityId(), internship);
+        }
+
+        int applied = log.read(csv -> {
+            try {
+                if (csv.fieldEqualsIgnoreCase(0, OP_UPSERT) && csv.getFieldCount() >= 14) {
+                    InternshipOpportunity internship = FileHandler.readInternship(csv, 1);
+                    byId.put(internship.getOpportunityId(), internship);
+                } else if (csv.fieldEqualsIgnoreCase(0, OP_DELETE) && csv.getFieldCount() >= 2) {
+                    byId.remove(csv.getString(1));
+                }
+            } catch (IllegalArgumentException | DateTimeException e) {
+                System.err.println("Error replaying internship journal record: " + e.getMessage());
+            }
+        });
+
+        System.out.println("Replayed " + applied + " journal record(s) from " + log.getFilePath());
+        return new ArrayList<>(byId.values());
+    }
+
+    /**
+     * Starts periodic background compaction of the journal into the snapshot
+     * @param rows Rendered lines of the in-memory internship list, kept current by its owner
+     */
+    public synchronized void startCompaction(CsvRows<InternshipOpportunity> rows) {
+        this.rows = rows;
+        if (compactor != null) {
+            return;
+        }
+
+        compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "internship-journal-compactor");
+            t.setDaemon(true);
+            return t;
+        });
+        compactor.scheduleWithFixedDelay(this::compactIfDirty,
+            COMPACTION_INTERVAL_SECONDS, COMPACTION_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Folds the journal into a fresh snapshot CSV and truncates the records it covers
+     */
+    public synchronized void compact() {
+        if (rows == null) {
+            return;
+        }
+
+        // Take the lines and the record count together; appends only wait for this, not for the
+        // snapshot write, and records appended meanwhile stay in the journal
+        List<String> lines;
+        int covered;
+        synchronized (log) {
+            if (!rows.isBuilt()) {
+                return; // Nothing rendered yet, built on the next change
+            }
+            lines = rows.lines();
+            covered = log.getRecordCount();
+        }
+        if (covered == 0) {
+            return;
+        }
+
+        try {
+            FileHandler.saveInternships(lines, snapshotPath).join();
+        } catch (CompletionException e) {
+            return; // Snapshot not durable, keep the journal
+        }
+        log.truncate(covered);
+    }
+
+    /**
+     * Stops background compaction and closes the journal
+     */
+    public synchronized void shutdown() {
+        if (compactor != null) {
+            compactor.shutdown();
+            compactor = null;
+        }
+        log.close();
+    }
+
+    /**
+     * Returns number of records waiting to be compacted
+     */
+    public int getPendingRecordCount() {
+        return log.getRecordCount();
+    }
+
+    /**
+     * Compacts if there is anything in the journal
+     */
+    private void compactIfDirty() {
+        if (log.getRecordCount() > 0) {
+            compact();
+        }
+    }
+
+    /**
+     * Schedules a compaction once the journal grows past the threshold
+     */
+    private void compactIfNeeded() {
+        ScheduledExecutorService executor = compactor;
+        if (executor != null && log.getRecordCount() >= COMPACTION_THRESHOLD) {
+            executor.execute(this::compactIfDirty);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Dynamic interval index over closed day ranges [start, end], such as opening and closing dates.
+ * <p>
+ * Intervals are kept in a treap ordered by start day, where every node also records the latest
+ * end day in its subtree. A stabbing query ("which intervals contain day D") skips every subtree
+ * whose latest end is before D and every subtree that starts after D, so it costs O(log n) plus
+ * the number of results. Inserts and removals are expected O(log n).
+ */
+public class IntervalIndex<T> {
+
+    private final Map<T, Node<T>> nodeOf = new IdentityHashMap<>();
+    private final Random priorities = new Random();
+    private Node<T> root;
+    private long nextSequence;
+
+    /**
+     * Indexes a value's interval, replacing any interval it had
+     * @param start First day of the interval (epoch day)
+     * @param end Last day of the interval (epoch day)
+     */
+    public synchronized void put(T value, long start, long end) {
+        Node<T> existing = nodeOf.get(value);
+        if (existing != null) {
+            if (existing.start == start && existing.end == end) {
+                return;
+            }
+            remove(value);
+        }
+        Node<T> node = new Node<>(value, start, end, nextSequence++, priorities.nextInt());
+        root = insert(root, node);
+        nodeOf.put(value, node);
+    }
+
+    /**
+     * Removes a value's interval
+     */
+    public synchronized void remove(T value) {
+        Node<T> node = nodeOf.remove(value);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Returns whether a value is indexed with exactly this interval
+     */
+    public synchronized boolean hasInterval(T value, long start, long end) {
+        Node<T> node = nodeOf.get(value);
+        return node != null && node.start == start && node.end == end;
+    }
+
+    /**
+     * Removes every interval
+     */
+    public synchronized void clear() {
+        root = null;
+        nodeOf.clear();
+    }
+
+    /**
+     * Returns the values whose interval contains the day, by start day
+     */
+    public synchronized List<T> containing(long day) {
+        List<T> matches = new ArrayList<>();
+        collect(root, day, matches);
+        return matches;
+    }
+
+    /**
+     * Returns number of indexed intervals
+     */
+    public synchronized int size() {
+        return nodeOf.size();
+    }
+
+    private static <T> void collect(Node<T> node, long day, List<T> matches) {
+        while (node != null && node.maxEnd >= day) {
+            collect(node.left, day, matches);
+            if (node.start > day) {
+                return; // This node and everything to its right start too late
+            }
+            if (node.end >= day) {
+                matches.add(node.value);
+            }
+            node = node.right;
+        }
+    }
+
+    private static <T> Node<T> insert(Node<T> node, Node<T> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.compareTo(node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static <T> Node<T> delete(Node<T> node, Node<T> deleted) {
+        if (node == null) {
+            return null;
+        }
+        if (node != deleted) {
+            if (deleted.compareTo(node) < 0) {
+                node.left = delete(node.left, deleted);
+            } else {
+                node.right = delete(node.right, deleted);
+            }
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else if (node.left.priority > node.right.priority) {
+            node = rotateRight(node);
+            node.right = delete(node.right, deleted);
+        } else {
+            node = rotateLeft(node);
+            node.left = delete(node.left, deleted);
+        }
+        node.update();
+        return node;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    /**
+     * Treap node ordered by (start, sequence), a max-heap on priority
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final long start;
+        private final long end;
+        private final long sequence;
+        private final int priority;
+        private long maxEnd; // Latest end day in this subtree
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(T value, long start, long end, long sequence, int priority) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        int compareTo(Node<T> other) {
+            return start != other.start ? Long.compare(start, other.start) : Long.compare(sequence, other.sequence);
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd > maxEnd) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd > maxEnd) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,192 @@
+package util;
+
+import entity.domain.InternshipOpportunity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks which internships are within their application period (opening to closing date) today.
+ * <p>
+ * Opening and closing dates are kept in an {@link IntervalIndex} for "open on date D" queries.
+ * The set of internships open today is maintained rather than recomputed: each internship has a
+ * timer on its opening day and on the day after its closing day in a {@link DayTimerWheel}, and
+ * the wheel is advanced at every midnight of the clock. With a {@link VirtualClock}, the calendar
+ * advances whenever the clock is moved instead.
+ */
+public class OpeningCalendar {
+
+    private final Clock clock;
+    private final IntervalIndex<InternshipOpportunity> byDates = new IntervalIndex<>();
+    private final Set<InternshipOpportunity> open = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final DayTimerWheel wheel;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Constructor for OpeningCalendar
+     * @param clock Source of the current date
+     */
+    public OpeningCalendar(Clock clock) {
+        this.clock = clock;
+        this.wheel = new DayTimerWheel(LocalDate.now(clock).toEpochDay());
+        if (clock instanceof VirtualClock) {
+            ((VirtualClock) clock).addListener(this::tick);
+        }
+    }
+
+    /**
+     * Replaces every tracked internship
+     */
+    public synchronized void rebuild(List<InternshipOpportunity> internships) {
+        byDates.clear();
+        open.clear();
+        wheel.reset(LocalDate.now(clock).toEpochDay());
+        for (InternshipOpportunity internship : internships) {
+            add(internship);
+        }
+    }
+
+    /**
+     * Tracks an internship, scheduling its opening and closing
+     */
+    public synchronized void add(InternshipOpportunity internship) {
+        if (internship.getOpeningDate() == null || internship.getClosingDate() == null) {
+            return;
+        }
+        long start = internship.getOpeningDate().toEpochDay();
+        long end = internship.getClosingDate().toEpochDay();
+        byDates.put(internship, start, end);
+        refresh(internship, start, end);
+        wheel.schedule(start, () -> transition(internship, start, end));
+        wheel.schedule(end + 1, () -> transition(internship, start, end));
+    }
+
+    /**
+     * Stops tracking an internship
+     */
+    public synchronized void remove(InternshipOpportunity internship) {
+        byDates.remove(internship);
+        open.remove(internship);
+    }
+
+    /**
+     * Reschedules an internship if its opening or closing date changed
+     */
+    public synchronized void update(InternshipOpportunity internship) {
+        LocalDate opening = internship.getOpeningDate();
+        LocalDate closing = internship.getClosingDate();
+        if (opening != null && closing != null
+                && byDates.hasInterval(internship, opening.toEpochDay(), closing.toEpochDay())) {
+            return;
+        }
+        remove(internship); // Timers for the old dates no longer match and are ignored
+        add(internship);
+    }
+
+    /**
+     * Returns whether today is within the internship's application period
+     */
+    public synchronized boolean isOpen(InternshipOpportunity internship) {
+        return open.contains(internship);
+    }
+
+    /**
+     * Returns number of internships within their application period today
+     */
+    public synchronized int getOpenCount() {
+        return open.size();
+    }
+
+    /**
+     * Returns the internships whose application period includes the date, by opening date
+     */
+    public List<InternshipOpportunity> openOn(LocalDate date) {
+        return byDates.containing(date.toEpochDay());
+    }
+
+    /**
+     * Returns the date the calendar is on
+     */
+    public synchronized LocalDate getToday() {
+        return LocalDate.ofEpochDay(wheel.getCurrentDay());
+    }
+
+    /**
+     * Runs the openings and closings of every day up to the clock's current date
+     */
+    public synchronized void tick() {
+        long today = LocalDate.now(clock).toEpochDay();
+        if (today > wheel.getCurrentDay()) {
+            wheel.advanceTo(today);
+        }
+    }
+
+    /**
+     * Starts advancing at every midnight on a background daemon thread (not needed with a VirtualClock)
+     */
+    public synchronized void start() {
+        if (ticker != null || clock instanceof VirtualClock) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "opening-calendar");
+            t.setDaemon(true);
+            return t;
+        });
+        tick(); // Catch up on any day boundary passed before starting
+        scheduleNextTick();
+    }
+
+    /**
+     * Stops the background thread
+     */
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Schedules a tick just after the clock's next midnight
+     */
+    private synchronized void scheduleNextTick() {
+        if (ticker == null) {
+            return;
+        }
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        long delay = Duration.between(now, midnight).toMillis() + 1;
+        ticker.schedule(() -> {
+            tick();
+            scheduleNextTick();
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates open set membership at a timer, unless the internship's dates have since changed
+     */
+    private void transition(InternshipOpportunity internship, long start, long end) {
+        if (byDates.hasInterval(internship, start, end)) {
+            refresh(internship, start, end);
+        }
+    }
+
+    private void refresh(InternshipOpportunity internship, long start, long end) {
+        long today = wheel.getCurrentDay();
+        if (start <= today && today <= end) {
+            open.add(internship);
+        } else {
+            open.remove(internship);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+package util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Loads large CSV files by parsing chunks in parallel.
+ * <p>
+ * The file is split into chunks that end on record boundaries (newlines outside quoted fields),
+ * and each chunk is read with a positional {@link FileChannel#read(ByteBuffer, long)} into a heap
+ * buffer and parsed with its own {@link CsvReader} on the common fork-join pool. Rows are returned
+ * in file order, so the result is the same as reading the file sequentially.
+ * <p>
+ * The file is not memory-mapped: a mapping stays alive until it is garbage collected, and on
+ * Windows the file cannot be replaced while it is, which would break the next atomic save.
+ */
+public class ParallelCsvLoader {
+
+    private static final long MIN_CHUNK_BYTES = 1L << 20;
+    private static final long MAX_CHUNK_BYTES = 1L << 26; // Each chunk is held on the heap while parsed
+    private static final int SCAN_WINDOW_BYTES = 1 << 20;
+
+    /**
+     * Parses every record after the header, appending mapped rows to the target list in file order.
+     * <p>
+     * If the mapper throws, rows before the failing record are still added and the exception
+     * is rethrown, matching a sequential read that stops at the bad row.
+     */
+    public static <T> void load(String filePath, List<T> target, CsvReader.RowMapper<T> mapper) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return;
+            }
+
+            List<Long> boundaries = findChunkBoundaries(channel, size);
+
+            List<ChunkTask<T>> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < boundaries.size(); i++) {
+                long start = boundaries.get(i);
+                long end = boundaries.get(i + 1);
+                if (end > start) {
+                    tasks.add(new ChunkTask<>(channel, start, end, mapper));
+                }
+            }
+
+            if (tasks.size() == 1) {
+                tasks.get(0).invoke(); // Not worth handing a single chunk to the pool
+            } else {
+                ForkJoinPool.commonPool().invoke(new JoinAll<>(tasks));
+            }
+
+            for (ChunkTask<T> task : tasks) {
+                ChunkResult<T> result = task.join();
+                if (result.ioError != null) {
+                    throw result.ioError;
+                }
+                target.addAll(result.rows);
+                if (result.error != null) {
+                    throw result.error;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds chunk start offsets: the first record after the header, then record boundaries
+     * roughly every target chunk size, then end of file
+     */
+    private static List<Long> findChunkBoundaries(FileChannel channel, long size) throws IOException {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        long chunkSize = Math.max(MIN_CHUNK_BYTES, size / (parallelism * 4L));
+        chunkSize = Math.min(chunkSize, MAX_CHUNK_BYTES);
+
+        List<Long> boundaries = new ArrayList<>();
+        boolean inQuotes = false;
+        long nextTarget = -1; // Header not found yet
+
+        // Quote and newline bytes never occur inside multi-byte UTF-8 characters,
+        // so scanning bytes is safe
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW_BYTES);
+        for (long windowStart = 0; windowStart < size; windowStart += SCAN_WINDOW_BYTES) {
+            int windowSize = (int) Math.min(SCAN_WINDOW_BYTES, size - windowStart);
+            window.clear().limit(windowSize);
+            readFully(channel, window, windowStart);
+
+            for (int i = 0; i < windowSize; i++) {
+                byte b = window.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    long recordStart = windowStart + i + 1;
+                    if (nextTarget < 0) {
+                        boundaries.add(recordStart); // Data starts after the header line
+                        nextTarget = recordStart + chunkSize;
+                    } else if (recordStart >= nextTarget && recordStart < size) {
+                        boundaries.add(recordStart);
+                        nextTarget = recordStart + chunkSize;
+                    }
+                }
+            }
+        }
+
+        if (boundaries.isEmpty()) {
+            boundaries.add(size); // Header only
+        }
+        boundaries.add(size);
+        return boundaries;
+    }
+
+    /**
+     * Fills the buffer from the file starting at the given position (safe to call from several
+     * threads on one channel)
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long next = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, next);
+            if (read < 0) {
+                throw new EOFException("File shrank while it was being read");
+            }
+            next += read;
+        }
+    }
+
+    /**
+     * Rows parsed from one chunk, plus the exception that stopped parsing (if any)
+     */
+    private static class ChunkResult<T> {
+        private final List<T> rows = new ArrayList<>();
+        private RuntimeException error;
+        private IOException ioError;
+    }
+
+    /**
+     * Reads and parses one chunk of the file
+     */
+    private static class ChunkTask<T> extends RecursiveTask<ChunkResult<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long start;
+        private final long end;
+        private final transient CsvReader.RowMapper<T> mapper;
+
+        ChunkTask(FileChannel channel, long start, long end, CsvReader.RowMapper<T> mapper) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected ChunkResult<T> compute() {
+            ChunkResult<T> result = new ChunkResult<>();
+            try {
+                ByteBuffer bytes = ByteBuffer.allocate((int) (end - start));
+                readFully(channel, bytes, start);
+                bytes.flip();
+                CharBuffer chars = StandardCharsets.UTF_8.decode(bytes);
+
+                CsvReader csv = new CsvReader(chars);
+                while (csv.next()) {
+                    if (csv.isBlankRecord()) {
+                        continue;
+                    }
+                    T row = mapper.map(csv);
+                    if (row != null) {
+                        result.rows.add(row);
+                    }
+                }
+            } catch (IOException e) {
+                result.ioError = e;
+            } catch (RuntimeException e) {
+                result.error = e;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Forks every chunk task and waits for all of them
+     */
+    private static class JoinAll<T> extends RecursiveTask<Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<ChunkTask<T>> tasks;
+
+        JoinAll(List<ChunkTask<T>> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected Void compute() {
+            invokeAll(tasks);
+            return null;
+        }
+    }
+}
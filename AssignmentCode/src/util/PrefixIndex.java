@@ -0,0 +1,220 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Case-insensitive prefix (typeahead) index from names, such as titles or company names, to values.
+ * <p>
+ * Names are case-folded as in {@link TitleIndex} and stored in a trie whose nodes keep their
+ * children in sorted arrays, so finding a prefix takes time proportional to its length and the
+ * names below it are visited in alphabetical order, stopping as soon as enough have been found.
+ * A value is indexed under one name at a time; indexing it again under a new name moves it.
+ */
+public class PrefixIndex<T> {
+
+    private final Node<T> root = new Node<>();
+    private final Map<T, String> keyOf = new IdentityHashMap<>();
+
+    /**
+     * Indexes a value under a name, moving it if it was indexed under another name
+     */
+    public synchronized void put(T value, String name) {
+        String key = TitleIndex.collationKey(name);
+        String previous = keyOf.get(value);
+        if (key.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            remove(value);
+        }
+
+        Node<T> node = root;
+        node.values++;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childFor(key.charAt(i));
+            node.values++;
+        }
+        if (node.entries == null) {
+            node.name = name;
+            node.entries = new ArrayList<>(1);
+        }
+        node.entries.add(value);
+        keyOf.put(value, key);
+    }
+
+    /**
+     * Removes a value, pruning branches left without values
+     */
+    public synchronized void remove(T value) {
+        String key = keyOf.remove(value);
+        if (key == null) {
+            return;
+        }
+        Node<T> node = root;
+        node.values--;
+        for (int i = 0; i < key.length(); i++) {
+            Node<T> child = node.child(key.charAt(i));
+            if (--child.values == 0) {
+                node.removeChild(key.charAt(i));
+                return;
+            }
+            node = child;
+        }
+        node.entries.remove(value);
+        if (node.entries.isEmpty()) {
+            node.entries = null;
+            node.name = null;
+        }
+    }
+
+    /**
+     * Removes every value
+     */
+    public synchronized void clear() {
+        root.clear();
+        keyOf.clear();
+    }
+
+    /**
+     * Returns up to limit distinct names starting with the prefix, alphabetically, as first indexed
+     */
+    public synchronized List<String> complete(String prefix, int limit) {
+        List<String> names = new ArrayList<>();
+        Node<T> start = find(TitleIndex.collationKey(prefix));
+        if (start != null) {
+            collectNames(start, names, limit);
+        }
+        return names;
+    }
+
+    /**
+     * Returns up to limit values accepted by the filter whose names start with the prefix,
+     * alphabetically by name (values with the same name in the order they were indexed)
+     */
+    public synchronized List<T> withPrefix(String prefix, Predicate<T> filter, int limit) {
+        List<T> matches = new ArrayList<>();
+        Node<T> start = find(TitleIndex.collationKey(prefix));
+        if (start != null) {
+            collectValues(start, filter, matches, limit);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns number of values whose names start with the prefix, in time proportional to its length
+     */
+    public synchronized int count(String prefix) {
+        Node<T> node = find(TitleIndex.collationKey(prefix));
+        return node == null ? 0 : node.values;
+    }
+
+    /**
+     * Returns the values indexed under exactly this name (ignoring case)
+     */
+    public synchronized List<T> get(String name) {
+        Node<T> node = find(TitleIndex.collationKey(name));
+        return node == null || node.entries == null ? new ArrayList<>() : new ArrayList<>(node.entries);
+    }
+
+    /**
+     * Follows a folded key from the root
+     */
+    private Node<T> find(String key) {
+        Node<T> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static <T> void collectNames(Node<T> node, List<String> names, int limit) {
+        if (names.size() >= limit) {
+            return;
+        }
+        if (node.name != null) {
+            names.add(node.name);
+        }
+        for (int i = 0; i < node.childCount && names.size() < limit; i++) {
+            collectNames(node.children[i], names, limit);
+        }
+    }
+
+    private static <T> void collectValues(Node<T> node, Predicate<T> filter, List<T> matches, int limit) {
+        if (node.entries != null) {
+            for (T value : node.entries) {
+                if (matches.size() >= limit) {
+                    return;
+                }
+                if (filter.test(value)) {
+                    matches.add(value);
+                }
+            }
+        }
+        for (int i = 0; i < node.childCount && matches.size() < limit; i++) {
+            collectValues(node.children[i], filter, matches, limit);
+        }
+    }
+
+    /**
+     * Trie node; children are kept sorted by label for binary search and alphabetical walks
+     */
+    private static final class Node<T> {
+        private char[] labels = new char[0];
+        private Node<T>[] children = newArray(0);
+        private int childCount;
+        private int values;        // Values indexed at or below this node
+        private String name;       // Name as first indexed, if a name ends here
+        private List<T> entries;   // Values whose name ends here
+
+        Node<T> child(char label) {
+            int i = Arrays.binarySearch(labels, 0, childCount, label);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node<T> childFor(char label) {
+            int i = Arrays.binarySearch(labels, 0, childCount, label);
+            if (i >= 0) {
+                return children[i];
+            }
+            i = -i - 1;
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, i, labels, i + 1, childCount - i);
+            System.arraycopy(children, i, children, i + 1, childCount - i);
+            labels[i] = label;
+            children[i] = new Node<>();
+            childCount++;
+            return children[i];
+        }
+
+        void removeChild(char label) {
+            int i = Arrays.binarySearch(labels, 0, childCount, label);
+            System.arraycopy(labels, i + 1, labels, i, childCount - i - 1);
+            System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        void clear() {
+            labels = new char[0];
+            children = newArray(0);
+            childCount = 0;
+            values = 0;
+            name = null;
+            entries = null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node<?>[length];
+        }
+    }
+}
\ No newline at end of file
@@ -8,7 +8,7 @@ import entity.user.User;
 public class SessionManager {
     
     private static SessionManager instance;
-    private User currentUser;
+    private volatile User currentUser; // Cleared by the file reloader if the account is removed
     
     // Private constructor for singleton pattern
     private SessionManager() {
@@ -0,0 +1,79 @@
+package util;
+
+import entity.domain.InternshipApplication;
+import entity.domain.InternshipOpportunity;
+import entity.domain.WithdrawalRequest;
+import entity.user.CareerCenterStaff;
+import entity.user.CompanyRepresentative;
+import entity.user.Student;
+
+import java.util.List;
+
+/**
+ * Full in-memory application state as written to / read from a binary snapshot
+ */
+public class Snapshot {
+
+    private final List<Student> students;
+    private final List<CareerCenterStaff> staff;
+    private final List<CompanyRepresentative> companyReps;
+    private final List<InternshipOpportunity> internships;
+    private final List<InternshipApplication> applications;
+    private final List<WithdrawalRequest> withdrawalRequests;
+
+    /**
+     * Constructor for Snapshot
+     */
+    public Snapshot(List<Student> students, List<CareerCenterStaff> staff,
+                    List<CompanyRepresentative> companyReps, List<InternshipOpportunity> internships,
+                    List<InternshipApplication> applications, List<WithdrawalRequest> withdrawalRequests) {
+        this.students = students;
+        this.staff = staff;
+        this.companyReps = companyReps;
+        this.internships = internships;
+        this.applications = applications;
+        this.withdrawalRequests = withdrawalRequests;
+    }
+
+    /**
+     * Returns students
+     */
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    /**
+     * Returns career center staff
+     */
+    public List<CareerCenterStaff> getStaff() {
+        return staff;
+    }
+
+    /**
+     * Returns company representatives
+     */
+    public List<CompanyRepresentative> getCompanyReps() {
+        return companyReps;
+    }
+
+    /**
+     * Returns internship opportunities
+     */
+    public List<InternshipOpportunity> getInternships() {
+        return internships;
+    }
+
+    /**
+     * Returns internship applications
+     */
+    public List<InternshipApplication> getApplications() {
+        return applications;
+    }
+
+    /**
+     * Returns withdrawal requests
+     */
+    public List<WithdrawalRequest> getWithdrawalRequests() {
+        return withdrawalRequests;
+    }
+}
@@ -0,0 +1,517 @@
+package util;
+
+import entity.domain.InternshipApplication;
+import entity.domain.InternshipOpportunity;
+import entity.domain.WithdrawalRequest;
+import entity.user.CareerCenterStaff;
+import entity.user.CompanyRepresentative;
+import entity.user.Student;
+import enums.ApplicationStatus;
+import enums.InternshipLevel;
+import enums.InternshipStatus;
+import enums.Major;
+import enums.RequestStatus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compact, versioned binary codec for the full application state.
+ * <p>
+ * Layout: magic, version, source fingerprints, symbol dictionary, then one section per entity
+ * type. Values that repeat across rows (company names, departments, representative IDs) are stored
+ * once in the dictionary and referenced by index; unique values are stored inline as UTF-8. Dates
+ * are stored as a presence flag and epoch day, enums as ordinals, and all counts and indexes as
+ * variable-length ints.
+ * <p>
+ * The fingerprints record the size and modification time of every data file the state was saved
+ * to when the snapshot was taken. The snapshot is only used while each file still has exactly
+ * that size and time, so a data file edited, replaced or restored since then is never shadowed.
+ */
+public class SnapshotCodec {
+
+    private static final int MAGIC = 0x49504D53; // "IPMS"
+    private static final int VERSION = 2;
+
+    private static final InternshipLevel[] LEVELS = InternshipLevel.values();
+    private static final Major[] MAJORS = Major.values();
+    private static final InternshipStatus[] INTERNSHIP_STATUSES = InternshipStatus.values();
+    private static final ApplicationStatus[] APPLICATION_STATUSES = ApplicationStatus.values();
+    private static final RequestStatus[] REQUEST_STATUSES = RequestStatus.values();
+
+    /**
+     * Writes the snapshot durably, replacing any previous snapshot atomically
+     * @param sourcePaths Data files holding the same state, fingerprinted as they are now (call
+     *                    only once every change has been saved to them)
+     */
+    public static void write(Snapshot snapshot, String filePath, String... sourcePaths) throws IOException {
+        // Encode the body first so the dictionary is complete before it is written
+        Encoder body = new Encoder();
+        body.writeSnapshot(snapshot);
+
+        Output header = new Output(1 << 12);
+        header.writeInt(MAGIC);
+        header.writeVarInt(VERSION);
+        header.writeVarInt(sourcePaths.length);
+        for (String sourcePath : sourcePaths) {
+            header.writeString(sourcePath);
+            long[] fingerprint = fingerprint(sourcePath);
+            header.writeBoolean(fingerprint != null);
+            if (fingerprint != null) {
+                header.writeVarLong(fingerprint[0]);
+                header.writeVarLong(fingerprint[1]);
+            }
+        }
+        header.writeVarInt(body.symbols.size());
+        for (String symbol : body.symbols) {
+            header.writeString(symbol);
+        }
+
+        byte[] bytes = new byte[header.length + body.out.length];
+        System.arraycopy(header.bytes, 0, bytes, 0, header.length);
+        System.arraycopy(body.out.bytes, 0, bytes, header.length, body.out.length);
+        AtomicFileWriter.replace(Paths.get(filePath), bytes);
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write}, whatever the state of its source files
+     */
+    public static Snapshot read(String filePath) throws IOException {
+        return read(filePath, null);
+    }
+
+    /**
+     * Reads a snapshot if it exists and was taken from exactly the given source files as they are now
+     * @return the snapshot, or null if there is none or any source file has changed since
+     */
+    public static Snapshot readIfCurrent(String filePath, String... sourcePaths) throws IOException {
+        if (!Files.exists(Paths.get(filePath))) {
+            return null;
+        }
+        return read(filePath, sourcePaths);
+    }
+
+    /**
+     * Reads a snapshot, or returns null if source paths are given and do not match its fingerprints
+     */
+    private static Snapshot read(String filePath, String[] sourcePaths) throws IOException {
+        Input in = new Input(Files.readAllBytes(Paths.get(filePath)));
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a snapshot file: " + filePath);
+            }
+            int version = in.readVarInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            if (!readFingerprints(in, sourcePaths) && sourcePaths != null) {
+                return null;
+            }
+
+            String[] symbols = new String[in.readVarInt()];
+            for (int i = 0; i < symbols.length; i++) {
+                symbols[i] = in.readString();
+            }
+
+            return new Decoder(in, symbols).readSnapshot();
+        } catch (ArrayIndexOutOfBoundsException | NegativeArraySizeException | DateTimeException e) {
+            throw new IOException("Corrupt snapshot file: " + filePath);
+        }
+    }
+
+    /**
+     * Reads the source fingerprints
+     * @return true if they name exactly the given source paths and every file still matches
+     */
+    private static boolean readFingerprints(Input in, String[] sourcePaths) throws IOException {
+        int count = in.readVarInt();
+        boolean matches = sourcePaths != null && count == sourcePaths.length;
+        for (int i = 0; i < count; i++) {
+            String path = in.readString();
+            long[] recorded = in.readBoolean() ? new long[] {in.readVarLong(), in.readVarLong()} : null;
+            if (matches) {
+                matches = path.equals(sourcePaths[i]) && Arrays.equals(recorded, fingerprint(path));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns size and modification time (in nanoseconds, as precise as the file system keeps
+     * it) of a file, or null if it does not exist
+     */
+    private static long[] fingerprint(String path) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Paths.get(path), BasicFileAttributes.class);
+            return new long[] {attributes.size(), attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS)};
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes entity sections, adding repeated values to the symbol dictionary as they are seen
+     */
+    private static class Encoder {
+        private final Output out = new Output(1 << 20);
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<String> symbols = new ArrayList<>();
+
+        void writeSnapshot(Snapshot snapshot) {
+            out.writeVarInt(snapshot.getStudents().size());
+            for (Student student : snapshot.getStudents()) {
+                out.writeString(student.getUserId());
+                out.writeString(student.getName());
+                out.writeString(student.getEmail());
+                out.writeVarInt(student.getYearOfStudy());
+                out.writeByte(student.getMajor().ordinal());
+            }
+
+            out.writeVarInt(snapshot.getStaff().size());
+            for (CareerCenterStaff member : snapshot.getStaff()) {
+                out.writeString(member.getUserId());
+                out.writeString(member.getName());
+                out.writeString(member.getEmail());
+                symbol(member.getStaffDepartment());
+            }
+
+            out.writeVarInt(snapshot.getCompanyReps().size());
+            for (CompanyRepresentative rep : snapshot.getCompanyReps()) {
+                out.writeString(rep.getUserId());
+                out.writeString(rep.getName());
+                out.writeString(rep.getEmail());
+                symbol(rep.getCompanyName());
+                symbol(rep.getDepartment());
+                symbol(rep.getPosition());
+                out.writeBoolean(rep.isRegistrationApproved());
+            }
+
+            out.writeVarInt(snapshot.getInternships().size());
+            for (InternshipOpportunity internship : snapshot.getInternships()) {
+                out.writeString(internship.getOpportunityId());
+                out.writeString(internship.getTitle());
+                out.writeString(internship.getDescription());
+                out.writeByte(internship.getLevel().ordinal());
+                out.writeByte(internship.getPreferredMajor().ordinal());
+                out.writeDate(internship.getOpeningDate());
+                out.writeDate(internship.getClosingDate());
+                out.writeByte(internship.getStatus().ordinal());
+                symbol(internship.getCompanyName());
+                symbol(internship.getAssignedRepresentativeId());
+                out.writeVarInt(internship.getTotalSlots());
+                out.writeVarInt(internship.getFilledSlots());
+                out.writeBoolean(internship.isVisible());
+            }
+
+            out.writeVarInt(snapshot.getApplications().size());
+            for (InternshipApplication application : snapshot.getApplications()) {
+                out.writeString(application.getApplicationId());
+                out.writeString(application.getStudentId());
+                symbol(application.getOpportunityId());
+                out.writeByte(application.getApplicationStatus().ordinal());
+                out.writeBoolean(application.isPlacementConfirmed());
+                out.writeDate(application.getApplicationDate());
+            }
+
+            out.writeVarInt(snapshot.getWithdrawalRequests().size());
+            for (WithdrawalRequest request : snapshot.getWithdrawalRequests()) {
+                out.writeString(request.getRequestId());
+                out.writeString(request.getStudentId());
+                out.writeString(request.getApplicationId());
+                out.writeByte(request.getRequestStatus().ordinal());
+                out.writeBoolean(request.isBeforePlacement());
+                out.writeDate(request.getRequestDate());
+                out.writeDate(request.getProcessedDate());
+                out.writeString(request.getRemarks());
+            }
+        }
+
+        /**
+         * Writes a dictionary reference (0 for null, otherwise index + 1)
+         */
+        private void symbol(String value) {
+            if (value == null) {
+                out.writeVarInt(0);
+                return;
+            }
+            Integer index = dictionary.get(value);
+            if (index == null) {
+                index = symbols.size();
+                dictionary.put(value, index);
+                symbols.add(value);
+            }
+            out.writeVarInt(index + 1);
+        }
+    }
+
+    /**
+     * Reads entity sections, resolving repeated values through the symbol dictionary
+     */
+    private static class Decoder {
+        private final Input in;
+        private final String[] symbols;
+
+        Decoder(Input in, String[] symbols) {
+            this.in = in;
+            this.symbols = symbols;
+        }
+
+        Snapshot readSnapshot() {
+            int count = in.readVarInt();
+            List<Student> students = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readString();
+                String name = in.readString();
+                String email = in.readString();
+                int year = in.readVarInt();
+                Major major = MAJORS[in.readByte()];
+                students.add(new Student(id, name, email, FileHandler.DEFAULT_PASSWORD, year, major));
+            }
+
+            count = in.readVarInt();
+            List<CareerCenterStaff> staff = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readString();
+                String name = in.readString();
+                String email = in.readString();
+                String department = symbol();
+                staff.add(new CareerCenterStaff(id, name, email, FileHandler.DEFAULT_PASSWORD, department));
+            }
+
+            count = in.readVarInt();
+            List<CompanyRepresentative> reps = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readString();
+                String name = in.readString();
+                String email = in.readString();
+                String companyName = symbol();
+                String department = symbol();
+                String position = symbol();
+                CompanyRepresentative rep = new CompanyRepresentative(
+                    id, name, email, FileHandler.DEFAULT_PASSWORD, companyName, department, position
+                );
+                rep.setRegistrationApproved(in.readBoolean());
+                rep.markClean();
+                reps.add(rep);
+            }
+
+            count = in.readVarInt();
+            List<InternshipOpportunity> internships = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readString();
+                String title = in.readString();
+                String description = in.readString();
+                InternshipLevel level = LEVELS[in.readByte()];
+                Major major = MAJORS[in.readByte()];
+                LocalDate openingDate = in.readDate();
+                LocalDate closingDate = in.readDate();
+                InternshipStatus status = INTERNSHIP_STATUSES[in.readByte()];
+                String companyName = symbol();
+                String repId = symbol();
+                int totalSlots = in.readVarInt();
+                int filledSlots = in.readVarInt();
+                boolean visible = in.readBoolean();
+
+                InternshipOpportunity internship = new InternshipOpportunity(
+                    id, title, description, level, major, openingDate, closingDate, companyName, repId, totalSlots
+                );
+                internship.setStatus(status);
+                internship.setFilledSlots(filledSlots);
+                internship.setVisible(visible);
+                internships.add(internship);
+            }
+
+            count = in.readVarInt();
+            List<InternshipApplication> applications = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readString();
+                String studentId = in.readString();
+                InternshipApplication application = new InternshipApplication(id, studentId, symbol());
+                application.setApplicationStatus(APPLICATION_STATUSES[in.readByte()]);
+                application.setPlacementConfirmed(in.readBoolean());
+                application.setApplicationDate(in.readDate());
+                applications.add(application);
+            }
+
+            count = in.readVarInt();
+            List<WithdrawalRequest> requests = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readString();
+                String studentId = in.readString();
+                String applicationId = in.readString();
+                RequestStatus status = REQUEST_STATUSES[in.readByte()];
+                WithdrawalRequest request = new WithdrawalRequest(id, studentId, applicationId, in.readBoolean());
+                request.setRequestStatus(status);
+                request.setRequestDate(in.readDate());
+                request.setProcessedDate(in.readDate());
+                request.setRemarks(in.readString());
+                requests.add(request);
+            }
+
+            return new Snapshot(students, staff, reps, internships, applications, requests);
+        }
+
+        private String symbol() {
+            int ref = in.readVarInt();
+            return ref == 0 ? null : symbols[ref - 1];
+        }
+    }
+
+    /**
+     * Growable byte buffer with the primitive encodings used by the snapshot
+     */
+    private static class Output {
+        private byte[] bytes;
+        private int length;
+
+        Output(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[length++] = (byte) value;
+        }
+
+        void writeBoolean(boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        void writeInt(int value) {
+            writeByte(value >>> 24);
+            writeByte(value >>> 16);
+            writeByte(value >>> 8);
+            writeByte(value);
+        }
+
+        /**
+         * Writes an unsigned variable-length int (7 bits per byte)
+         */
+        void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        /**
+         * Writes a string as UTF-8 length + 1 followed by the bytes (0 for null)
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(utf8.length + 1);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, bytes, length, utf8.length);
+            length += utf8.length;
+        }
+
+        /**
+         * Writes a signed long as a zigzag variable-length value (small magnitudes take few bytes)
+         */
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                bytes[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            bytes[length++] = (byte) zigzag;
+        }
+
+        /**
+         * Writes a date as a presence flag followed by its epoch day
+         */
+        void writeDate(LocalDate value) {
+            writeBoolean(value != null);
+            if (value != null) {
+                writeVarLong(value.toEpochDay());
+            }
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length + extra, bytes.length * 2));
+            }
+        }
+    }
+
+    /**
+     * Cursor over a snapshot held in memory, mirroring {@link Output}
+     */
+    private static class Input {
+        private final byte[] bytes;
+        private int position;
+
+        Input(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            return bytes[position++] & 0xFF;
+        }
+
+        boolean readBoolean() {
+            return bytes[position++] != 0;
+        }
+
+        int readInt() {
+            return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+        }
+
+        int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0 && shift < 35);
+            return value;
+        }
+
+        String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        long readVarLong() {
+            long zigzag = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = bytes[position++];
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0 && shift < 70);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        LocalDate readDate() {
+            return readBoolean() ? LocalDate.ofEpochDay(readVarLong()) : null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package util;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed set of locks shared out by key, such as opportunity and student IDs.
+ * <p>
+ * Each key hashes to one of a power-of-two number of stripes, so unrelated keys almost always use
+ * different locks and proceed in parallel while memory stays bounded. Several keys are locked in
+ * ascending stripe order (each stripe once), so two callers locking overlapping keys in any order
+ * can never deadlock. Only writers lock; readers rely on the copy-on-write and synchronized
+ * collections behind them. Release with {@link Held#unlock()} in a finally block.
+ */
+public class StripedLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Constructor for StripedLocks
+     * @param stripeCount Minimum number of stripes (rounded up to a power of two)
+     */
+    public StripedLocks(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Locks the stripes of every key (null keys are ignored) in ascending stripe order
+     * @return Handle that releases the locks
+     */
+    public Held lock(String... keys) {
+        int[] indexes = new int[keys.length];
+        int count = 0;
+        for (String key : keys) {
+            if (key != null) {
+                indexes[count++] = stripeOf(key);
+            }
+        }
+        Arrays.sort(indexes, 0, count);
+
+        ReentrantLock[] held = new ReentrantLock[count];
+        int locked = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || indexes[i] != indexes[i - 1]) {
+                held[locked] = stripes[indexes[i]];
+                held[locked++].lock();
+            }
+        }
+        return new Held(held, locked);
+    }
+
+    /**
+     * Returns number of stripes
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Spreads the key's hash so IDs differing only in their last characters use different stripes
+     */
+    private int stripeOf(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Locks taken by {@link StripedLocks#lock(String...)}
+     */
+    public static final class Held {
+        private final ReentrantLock[] locks;
+        private int count;
+
+        private Held(ReentrantLock[] locks, int count) {
+            this.locks = locks;
+            this.count = count;
+        }
+
+        /**
+         * Releases the locks in reverse order (only the first call has any effect)
+         */
+        public void unlock() {
+            while (count > 0) {
+                locks[--count].unlock();
+            }
+        }
+    }
+}
\ No newline at end of file
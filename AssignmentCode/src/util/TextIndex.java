@@ -0,0 +1,341 @@
+package util;
+
+import entity.domain.InternshipOpportunity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index over internship titles and descriptions, ranked with BM25.
+ * <p>
+ * Text is split into lower-case runs of letters and digits. Every term has a posting list of
+ * (document, term frequency) pairs in document order; title terms count {@value #TITLE_WEIGHT} times
+ * so a match in the title outranks the same match in the description. A query only visits the
+ * posting lists of its own terms, rarest first, and stops collecting new candidates once the
+ * remaining terms could no longer lift one into the requested number of results (MaxScore pruning).
+ * <p>
+ * Each indexed version of an internship is a document. Editing the title or description retires
+ * the old document and adds a new one; retired entries are skipped by queries and purged from a
+ * posting list once they make up half of it.
+ */
+public class TextIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<InternshipOpportunity, Integer> docOf = new IdentityHashMap<>();
+    private InternshipOpportunity[] docs = new InternshipOpportunity[16]; // null = retired
+    private String[][] termsOf = new String[16][]; // Distinct terms of each live document
+    private int[] lengthOf = new int[16];
+    private String[] titleOf = new String[16]; // Text as indexed, to detect edits
+    private String[] descriptionOf = new String[16];
+    private int docCount;
+    private int liveDocs;
+    private long totalLength;
+
+    // Per-query scratch space, reused under the lock
+    private float[] scores = new float[16];
+    private int[] touched = new int[16];
+
+    /**
+     * Replaces the whole index with the given internships
+     */
+    public synchronized void rebuild(List<InternshipOpportunity> internships) {
+        postings.clear();
+        docOf.clear();
+        int capacity = Math.max(16, internships.size());
+        docs = new InternshipOpportunity[capacity];
+        termsOf = new String[capacity][];
+        lengthOf = new int[capacity];
+        titleOf = new String[capacity];
+        descriptionOf = new String[capacity];
+        scores = new float[capacity];
+        touched = new int[capacity];
+        docCount = 0;
+        liveDocs = 0;
+        totalLength = 0;
+
+        for (InternshipOpportunity internship : internships) {
+            add(internship);
+        }
+    }
+
+    /**
+     * Indexes an internship's title and description
+     */
+    public synchronized void add(InternshipOpportunity internship) {
+        if (docOf.containsKey(internship)) {
+            return;
+        }
+        if (docCount == docs.length) {
+            int capacity = docs.length * 2;
+            docs = Arrays.copyOf(docs, capacity);
+            termsOf = Arrays.copyOf(termsOf, capacity);
+            lengthOf = Arrays.copyOf(lengthOf, capacity);
+            titleOf = Arrays.copyOf(titleOf, capacity);
+            descriptionOf = Arrays.copyOf(descriptionOf, capacity);
+        }
+
+        int doc = docCount++;
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        int length = tokenize(internship.getTitle(), TITLE_WEIGHT, frequencies)
+            + tokenize(internship.getDescription(), 1, frequencies);
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new Postings()).add(doc, entry.getValue());
+        }
+
+        docs[doc] = internship;
+        termsOf[doc] = frequencies.keySet().toArray(new String[0]);
+        lengthOf[doc] = length;
+        titleOf[doc] = internship.getTitle();
+        descriptionOf[doc] = internship.getDescription();
+        docOf.put(internship, doc);
+        liveDocs++;
+        totalLength += length;
+    }
+
+    /**
+     * Removes an internship from the index
+     */
+    public synchronized void remove(InternshipOpportunity internship) {
+        Integer doc = docOf.remove(internship);
+        if (doc == null) {
+            return;
+        }
+        String[] terms = termsOf[doc];
+        docs[doc] = null;
+        termsOf[doc] = null;
+        titleOf[doc] = descriptionOf[doc] = null;
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            list.retire();
+            if (list.live == 0) {
+                postings.remove(term);
+            } else if (list.retired * 2 > list.size) {
+                list.purge(docs);
+            }
+        }
+        liveDocs--;
+        totalLength -= lengthOf[doc];
+    }
+
+    /**
+     * Re-indexes an internship if its title or description changed
+     */
+    public synchronized void update(InternshipOpportunity internship) {
+        Integer doc = docOf.get(internship);
+        if (doc == null || (same(titleOf[doc], internship.getTitle())
+                && same(descriptionOf[doc], internship.getDescription()))) {
+            return;
+        }
+        remove(internship);
+        add(internship);
+    }
+
+    /**
+     * Returns the best-matching internships accepted by the filter, highest BM25 score first
+     * (equal scores in the order the internships were indexed)
+     * @param query Free-text query; a document matches if it contains any query term
+     * @param filter Internships to consider
+     * @param limit Maximum number of results
+     */
+    public synchronized List<InternshipOpportunity> search(String query, Predicate<InternshipOpportunity> filter, int limit) {
+        Map<String, Integer> queryTerms = new LinkedHashMap<>();
+        tokenize(query, 1, queryTerms);
+        if (queryTerms.isEmpty() || liveDocs == 0 || limit <= 0) {
+            return new ArrayList<>();
+        }
+        if (scores.length < docCount) {
+            scores = new float[docs.length];
+            touched = new int[docs.length];
+        }
+
+        // Rarest terms first: they carry the most weight and have the shortest posting lists
+        List<Postings> lists = new ArrayList<>();
+        for (String term : queryTerms.keySet()) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                lists.add(list);
+            }
+        }
+        lists.sort((x, y) -> Integer.compare(x.live, y.live));
+
+        // A term adds at most idf * (K1 + 1) to a score; remainingBound[j] bounds terms j and later
+        double[] idf = new double[lists.size()];
+        double[] remainingBound = new double[lists.size() + 1];
+        for (int j = lists.size() - 1; j >= 0; j--) {
+            idf[j] = Math.log(1 + (liveDocs - lists.get(j).live + 0.5) / (lists.get(j).live + 0.5));
+            remainingBound[j] = remainingBound[j + 1] + idf[j] * (K1 + 1);
+        }
+
+        // Term-at-a-time accumulation. Once the current k-th best score beats everything the
+        // remaining terms could give a new document, only existing candidates are updated.
+        double lengthScale = K1 * B * liveDocs / totalLength;
+        int touchedCount = 0;
+        boolean candidatesOnly = false;
+        for (int j = 0; j < lists.size(); j++) {
+            Postings list = lists.get(j);
+            if (!candidatesOnly && j > 0 && touchedCount >= limit
+                    && kthBestScore(filter, limit, touchedCount) > remainingBound[j]) {
+                candidatesOnly = true;
+            }
+
+            if (candidatesOnly && touchedCount * (32 - Integer.numberOfLeadingZeros(list.size)) < list.size) {
+                // Few candidates: look each one up in the sorted posting list
+                for (int c = 0; c < touchedCount; c++) {
+                    int doc = touched[c];
+                    int i = Arrays.binarySearch(list.docs, 0, list.size, doc);
+                    if (i >= 0) {
+                        scores[doc] += contribution(idf[j], list.frequencies[i], lengthOf[doc], lengthScale);
+                    }
+                }
+                continue;
+            }
+
+            for (int i = 0; i < list.size; i++) {
+                int doc = list.docs[i];
+                if (docs[doc] == null || (candidatesOnly && scores[doc] == 0)) {
+                    continue; // Retired, or cannot reach the top results
+                }
+                if (scores[doc] == 0) {
+                    touched[touchedCount++] = doc;
+                }
+                scores[doc] += contribution(idf[j], list.frequencies[i], lengthOf[doc], lengthScale);
+            }
+        }
+
+        PriorityQueue<Integer> best = topResults(filter, limit, touchedCount);
+        InternshipOpportunity[] ranked = new InternshipOpportunity[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = docs[best.poll()];
+        }
+        for (int i = 0; i < touchedCount; i++) {
+            scores[touched[i]] = 0;
+        }
+        return new ArrayList<>(Arrays.asList(ranked));
+    }
+
+    /**
+     * BM25 score of one term in one document
+     */
+    private static float contribution(double idf, int tf, int length, double lengthScale) {
+        double norm = K1 * (1 - B) + lengthScale * length;
+        return (float) (idf * tf * (K1 + 1) / (tf + norm));
+    }
+
+    /**
+     * Returns the k-th best score so far among candidates accepted by the filter (0 if fewer)
+     */
+    private double kthBestScore(Predicate<InternshipOpportunity> filter, int limit, int touchedCount) {
+        PriorityQueue<Integer> best = topResults(filter, limit, touchedCount);
+        return best.size() < limit ? 0 : scores[best.peek()];
+    }
+
+    /**
+     * Keeps the best candidates accepted by the filter in a bounded heap whose head is the
+     * weakest kept result
+     */
+    private PriorityQueue<Integer> topResults(Predicate<InternshipOpportunity> filter, int limit, int touchedCount) {
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, touchedCount) + 1,
+            (a, b) -> a.equals(b) ? 0 : outranks(a, b) ? 1 : -1);
+        for (int i = 0; i < touchedCount; i++) {
+            int doc = touched[i];
+            if (best.size() == limit && !outranks(doc, best.peek())) {
+                continue; // Cheaper than the filter and the heap
+            }
+            if (filter.test(docs[doc])) {
+                best.add(doc);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns whether a document ranks above another (higher score, then earlier indexed)
+     */
+    private boolean outranks(int doc, int other) {
+        return scores[doc] != scores[other] ? scores[doc] > scores[other] : doc < other;
+    }
+
+    /**
+     * Adds the terms of a text to the frequency map, each occurrence counting weight times
+     * @return weighted number of terms in the text
+     */
+    static int tokenize(String text, int weight, Map<String, Integer> frequencies) {
+        if (text == null) {
+            return 0;
+        }
+        int length = 0;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                frequencies.merge(text.substring(start, i).toLowerCase(), weight, Integer::sum);
+                length += weight;
+                start = -1;
+            }
+        }
+        return length;
+    }
+
+    private static boolean same(String indexed, String current) {
+        return indexed == null ? current == null : indexed.equals(current);
+    }
+
+    /**
+     * Posting list of one term: documents in ascending order with their term frequencies
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int live;    // Entries whose document is not retired
+        private int retired; // Entries whose document is retired but not yet purged
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+            live++;
+        }
+
+        void retire() {
+            live--;
+            retired++;
+        }
+
+        /**
+         * Drops entries of retired documents
+         */
+        void purge(InternshipOpportunity[] current) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (current[docs[i]] != null) {
+                    docs[kept] = docs[i];
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            retired = 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,221 @@
+package util;
+
+import entity.domain.InternshipOpportunity;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Ordered index of internships by case-insensitive title.
+ * <p>
+ * Each title is case-folded once into a sort key when it is indexed, so listing in title order
+ * is an in-order walk of a balanced tree and a title edit is one O(log n) remove and insert.
+ * Titles are ordered exactly as by {@link String#CASE_INSENSITIVE_ORDER}, and equal titles keep
+ * the order in which their internships were added (catalog order), which matches a stable sort
+ * of the catalog with {@link String#compareToIgnoreCase(String)}.
+ */
+public class TitleIndex {
+
+    private static final long UNINDEXED_SEQUENCE = Long.MAX_VALUE / 2; // Orders unindexed internships last among equals
+
+    private final TreeMap<Key, InternshipOpportunity> byTitle = new TreeMap<>();
+    private final Map<InternshipOpportunity, Key> keyOf = new IdentityHashMap<>();
+    private long nextSequence;
+
+    /**
+     * Replaces the whole index with the given internships, in list order
+     */
+    public synchronized void rebuild(List<InternshipOpportunity> internships) {
+        byTitle.clear();
+        keyOf.clear();
+        nextSequence = 0;
+        for (InternshipOpportunity internship : internships) {
+            add(internship);
+        }
+    }
+
+    /**
+     * Adds an internship after every existing internship with an equal title
+     */
+    public synchronized void add(InternshipOpportunity internship) {
+        if (keyOf.containsKey(internship)) {
+            return;
+        }
+        Key key = new Key(internship.getTitle(), nextSequence++);
+        keyOf.put(internship, key);
+        byTitle.put(key, internship);
+    }
+
+    /**
+     * Removes an internship
+     */
+    public synchronized void remove(InternshipOpportunity internship) {
+        Key key = keyOf.remove(internship);
+        if (key != null) {
+            byTitle.remove(key);
+        }
+    }
+
+    /**
+     * Moves an internship to its new position if its title changed
+     */
+    public synchronized void update(InternshipOpportunity internship) {
+        Key key = keyOf.get(internship);
+        String title = internship.getTitle();
+        if (key == null || key.title == title || (key.title != null && key.title.equals(title))) {
+            return;
+        }
+        byTitle.remove(key);
+        Key moved = new Key(title, key.sequence);
+        keyOf.put(internship, moved);
+        byTitle.put(moved, internship);
+    }
+
+    /**
+     * Returns the indexed internships accepted by the filter, in title order, without sorting
+     */
+    public List<InternshipOpportunity> inTitleOrder(Predicate<InternshipOpportunity> filter) {
+        return inTitleOrder(filter, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the first limit indexed internships accepted by the filter, in title order, stopping
+     * as soon as they are found
+     */
+    public synchronized List<InternshipOpportunity> inTitleOrder(Predicate<InternshipOpportunity> filter, int limit) {
+        List<InternshipOpportunity> matches = new ArrayList<>();
+        for (InternshipOpportunity internship : byTitle.values()) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            if (filter.test(internship)) {
+                matches.add(internship);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the given internships in title order, equal titles in catalog order (internships not
+     * in the index come after indexed ones with an equal title, in the given order).
+     * <p>
+     * When the internships are a large part of the index, the tree is walked in order and the
+     * given ones are picked out, so nothing is compared; otherwise their keys are sorted.
+     */
+    public List<InternshipOpportunity> sort(List<InternshipOpportunity> internships) {
+        int count = internships.size();
+        List<Key> keys = new ArrayList<>(count);
+        Map<Key, InternshipOpportunity> internshipOf = new IdentityHashMap<>(count);
+        synchronized (this) {
+            // A walk visits every indexed internship; a sort compares about k log k pairs
+            if ((long) count * (64 - Long.numberOfLeadingZeros(count)) >= byTitle.size()) {
+                List<InternshipOpportunity> walked = walk(internships);
+                if (walked != null) {
+                    return walked;
+                }
+            }
+
+            long position = 0;
+            for (InternshipOpportunity internship : internships) {
+                Key indexed = keyOf.get(internship);
+                Key key = indexed != null ? indexed : new Key(internship.getTitle(), UNINDEXED_SEQUENCE + position++);
+                keys.add(key);
+                internshipOf.put(key, internship);
+            }
+        }
+        keys.sort(null);
+
+        List<InternshipOpportunity> sorted = new ArrayList<>(keys.size());
+        for (Key key : keys) {
+            sorted.add(internshipOf.get(key));
+        }
+        return sorted;
+    }
+
+    /**
+     * Picks the given internships out of the tree in order (each as often as it is given), or
+     * returns null if any of them is not indexed
+     */
+    private List<InternshipOpportunity> walk(List<InternshipOpportunity> internships) {
+        Map<InternshipOpportunity, Integer> wanted = new IdentityHashMap<>(internships.size());
+        for (InternshipOpportunity internship : internships) {
+            if (!keyOf.containsKey(internship)) {
+                return null;
+            }
+            wanted.merge(internship, 1, Integer::sum);
+        }
+
+        List<InternshipOpportunity> sorted = new ArrayList<>(internships.size());
+        for (InternshipOpportunity internship : byTitle.values()) {
+            Integer times = wanted.get(internship);
+            for (int i = 0; times != null && i < times; i++) {
+                sorted.add(internship);
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Returns number of indexed internships
+     */
+    public synchronized int size() {
+        return byTitle.size();
+    }
+
+    /**
+     * Case-folds a name for case-insensitive matching (equal keys for names equal ignoring case,
+     * supplementary characters included); the key's order is not used for sorting titles
+     */
+    static String collationKey(String title) {
+        if (title == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(title.length());
+        title.codePoints().forEach(c -> key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(c))));
+        return key.toString();
+    }
+
+    /**
+     * Folds each char of a title as {@link String#CASE_INSENSITIVE_ORDER} does, so comparing two
+     * keys char by char gives the same result; null if the title has surrogate pairs, which that
+     * order compares as whole code points
+     */
+    static String sortKey(String title) {
+        char[] key = title.toCharArray();
+        for (int i = 0; i < key.length; i++) {
+            if (Character.isSurrogate(key[i])) {
+                return null;
+            }
+            key[i] = Character.toLowerCase(Character.toUpperCase(key[i]));
+        }
+        return new String(key);
+    }
+
+    /**
+     * Tree key: the title ignoring case, then the insertion sequence to order equal titles
+     */
+    private static final class Key implements Comparable<Key> {
+        private final String title; // Title as indexed, to detect edits
+        private final String sortKey; // Null if the title needs the full comparison
+        private final long sequence;
+
+        Key(String title, long sequence) {
+            this.title = title;
+            this.sortKey = sortKey(title == null ? "" : title);
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int c = sortKey != null && other.sortKey != null
+                ? sortKey.compareTo(other.sortKey)
+                : String.CASE_INSENSITIVE_ORDER.compare(title == null ? "" : title,
+                                                        other.title == null ? "" : other.title);
+            return c != 0 ? c : Long.compare(sequence, other.sequence);
+        }
+    }
+}
\ No newline at end of file
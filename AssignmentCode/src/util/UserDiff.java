@@ -0,0 +1,84 @@
+package util;
+
+import entity.user.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Differences between an in-memory user list and a re-read user file, matched by user ID
+ */
+public class UserDiff<T extends User> {
+
+    private final List<T> inserted = new ArrayList<>();
+    private final List<T> updatedTargets = new ArrayList<>();
+    private final List<T> updatedValues = new ArrayList<>();
+    private final List<T> removed = new ArrayList<>();
+
+    /**
+     * Records a user that is new in the file
+     */
+    void addInsert(T user) {
+        inserted.add(user);
+    }
+
+    /**
+     * Records a user whose fields changed in the file
+     * @param target Existing in-memory user to update
+     * @param values User parsed from the file, holding the new field values
+     */
+    void addUpdate(T target, T values) {
+        updatedTargets.add(target);
+        updatedValues.add(values);
+    }
+
+    /**
+     * Records a user that is no longer in the file
+     */
+    void addRemoval(T user) {
+        removed.add(user);
+    }
+
+    /**
+     * Returns users that are new in the file
+     */
+    public List<T> getInserted() {
+        return inserted;
+    }
+
+    /**
+     * Returns existing users whose fields changed (same order as {@link #getUpdatedValues()})
+     */
+    public List<T> getUpdatedTargets() {
+        return updatedTargets;
+    }
+
+    /**
+     * Returns the new field values for each updated user
+     */
+    public List<T> getUpdatedValues() {
+        return updatedValues;
+    }
+
+    /**
+     * Returns existing users that are no longer in the file
+     */
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Checks if the file matched the in-memory list exactly
+     */
+    public boolean isEmpty() {
+        return inserted.isEmpty() && updatedTargets.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * Returns a one-line summary of the changes
+     */
+    @Override
+    public String toString() {
+        return inserted.size() + " added, " + updatedTargets.size() + " updated, " + removed.size() + " removed";
+    }
+}
\ No newline at end of file
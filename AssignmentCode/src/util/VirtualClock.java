@@ -0,0 +1,83 @@
+package util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Clock that only moves when told to, for driving date-based behaviour deterministically.
+ * <p>
+ * Listeners run on the calling thread after every move, so anything scheduled against this clock
+ * (such as {@link OpeningCalendar}) has caught up by the time {@link #advance(Duration)} returns.
+ * Copies made with {@link #withZone(ZoneId)} share the same time and listeners.
+ */
+public class VirtualClock extends Clock {
+
+    private final ZoneId zone;
+    private final AtomicReference<Instant> instant;
+    private final List<Runnable> listeners;
+
+    /**
+     * Constructor for VirtualClock
+     * @param start Date the clock starts on (at midnight)
+     * @param zone Time zone used to turn the instant into dates
+     */
+    public VirtualClock(LocalDate start, ZoneId zone) {
+        this(new AtomicReference<>(start.atStartOfDay(zone).toInstant()), zone, new CopyOnWriteArrayList<>());
+    }
+
+    private VirtualClock(AtomicReference<Instant> instant, ZoneId zone, List<Runnable> listeners) {
+        this.instant = instant;
+        this.zone = zone;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Registers a callback run after every move of the clock
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Moves the clock forward
+     */
+    public void advance(Duration duration) {
+        instant.updateAndGet(now -> now.plus(duration));
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Moves the clock forward by whole days
+     */
+    public void advanceDays(long days) {
+        advance(Duration.ofDays(days));
+    }
+
+    /**
+     * Returns the current date in the clock's zone
+     */
+    public LocalDate today() {
+        return LocalDate.now(this);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new VirtualClock(instant, zone, listeners);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package util;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind persistence for one dataset.
+ * <p>
+ * Callers mark the dataset dirty instead of saving it. A background thread performs one physical
+ * save once the oldest unsaved change reaches the maximum staleness, or as soon as the number of
+ * unsaved changes reaches the maximum batch size, whichever comes first. Everything still dirty
+ * is saved on {@link #shutdown()}.
+ * <p>
+ * The save runs on the background thread while callers keep modifying the dataset, so it must
+ * only write state the callers captured (rendered) before marking the dataset dirty, never read
+ * the live records.
+ */
+public class WriteBehindFlusher {
+
+    public static final long DEFAULT_MAX_STALENESS_MILLIS = 2000;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private final String name;
+    private final Runnable save;
+    private final long maxStalenessMillis;
+    private final int maxBatchSize;
+    private final ScheduledThreadPoolExecutor flusher;
+
+    private int pendingSaves; // Logical saves since the last physical write (0 = clean)
+    private boolean batchFlushQueued; // An immediate flush for a full batch is waiting to run
+    private final AtomicLong logicalSaves = new AtomicLong();
+    private final AtomicLong physicalWrites = new AtomicLong();
+
+    /**
+     * Constructor for WriteBehindFlusher
+     * @param name Name of the dataset (used for the thread name and metrics)
+     * @param save Writes the captured state of the dataset (throws CompletionException if the write failed)
+     * @param maxStalenessMillis Longest a change may stay unsaved
+     * @param maxBatchSize Number of unsaved changes that triggers an immediate write
+     */
+    public WriteBehindFlusher(String name, Runnable save, long maxStalenessMillis, int maxBatchSize) {
+        this.name = name;
+        this.save = save;
+        this.maxStalenessMillis = Math.max(0, maxStalenessMillis);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.flusher = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "write-behind-" + name);
+            t.setDaemon(true);
+            return t;
+        });
+        this.flusher.setExecuteExistingDelayedTasksAfterShutdownPolicy(false); // Shutdown flushes instead
+    }
+
+    /**
+     * Records a logical save; the dataset is written later by the background thread
+     */
+    public void markDirty() {
+        boolean firstChange;
+        boolean batchFull;
+        synchronized (this) {
+            logicalSaves.incrementAndGet();
+            firstChange = pendingSaves == 0;
+            pendingSaves++;
+            // >= because a failed flush puts its saves back, which can overshoot the limit
+            batchFull = pendingSaves >= maxBatchSize && !batchFlushQueued;
+            if (batchFull) {
+                batchFlushQueued = true;
+            }
+        }
+
+        try {
+            if (batchFull) {
+                flusher.execute(this::flush);
+            } else if (firstChange) {
+                flusher.schedule(this::flush, maxStalenessMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            // Shutting down; picked up by the final flush
+        }
+    }
+
+    /**
+     * Writes the dataset now if it has unsaved changes
+     */
+    public void flush() {
+        int saves;
+        synchronized (this) {
+            saves = pendingSaves;
+            pendingSaves = 0;
+            batchFlushQueued = false;
+        }
+        if (saves == 0) {
+            return; // Already written by an earlier trigger
+        }
+
+        try {
+            save.run();
+            physicalWrites.incrementAndGet();
+        } catch (CompletionException e) {
+            // Write failed; retry later
+            synchronized (this) {
+                pendingSaves += saves;
+            }
+            try {
+                flusher.schedule(this::flush, maxStalenessMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejected) {
+                // Shutting down; the final flush retries
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread and writes any unsaved changes
+     */
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(maxStalenessMillis + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * Returns name of the dataset
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns number of saves requested by callers
+     */
+    public long getLogicalSaveCount() {
+        return logicalSaves.get();
+    }
+
+    /**
+     * Returns number of times the dataset was actually written
+     */
+    public long getPhysicalWriteCount() {
+        return physicalWrites.get();
+    }
+
+    /**
+     * Returns average number of logical saves coalesced into each physical write
+     */
+    public double getCoalescingRatio() {
+        long writes = physicalWrites.get();
+        return writes == 0 ? 0 : (double) (logicalSaves.get() - getPendingSaveCount()) / writes;
+    }
+
+    /**
+     * Returns number of logical saves not yet written
+     */
+    public synchronized int getPendingSaveCount() {
+        return pendingSaves;
+    }
+
+    /**
+     * Returns a one-line summary of the coalescing metrics
+     */
+    public String getStats() {
+        return String.format("%s: %d saves in %d writes (%.1f saves per write, %d pending)",
+            name, getLogicalSaveCount(), getPhysicalWriteCount(), getCoalescingRatio(), getPendingSaveCount());
+    }
+}
\ No newline at end of file
@@ -4,6 +4,21 @@
  * This package manages:
  * <ul>
  * <li>File Handling (Read-write)</li>
+ * <li>Append-only Logs and Internship Journal</li>
+ * <li>CSV Tokenizer and Enum Lookup Tables</li>
+ * <li>Parallel Chunked CSV Loading</li>
+ * <li>Binary State Snapshots</li>
+ * <li>Atomic, Group-committed and Write-behind Saving</li>
+ * <li>Rendered CSV Rows Captured on the Changing Thread</li>
+ * <li>Watching and Reloading Changed Data Files</li>
+ * <li>Bitmap and Title-order Indexes over Internships</li>
+ * <li>Full-text and Prefix (Typeahead) Search over Internships</li>
+ * <li>Application Periods: Interval Index, Day Timer Wheel and Virtual Clock</li>
+ * <li>Cached Per-student Eligible Internship Views and Prefix Indexes</li>
+ * <li>Live Dashboard Counters</li>
+ * <li>Application Indexes by ID, Student, Internship and Pair</li>
+ * <li>Striped Locks for Concurrent Workflows</li>
+ * <li>Block-reserved ID Allocation</li>
  * <li>Session Manager</li>
  * <li>Validation</li>
  * </ul>